@@ -0,0 +1,81 @@
+package com.springproject.benchmarks;
+
+import com.springproject.config.MapperConfig;
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.dto.BookDto;
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.domain.entities.BookEntity;
+import com.springproject.mappers.Mapper;
+import com.springproject.mappers.impl.AuthorDirectMapperImpl;
+import com.springproject.mappers.impl.AuthorMapperImpl;
+import com.springproject.mappers.impl.BookDirectMapperImpl;
+import com.springproject.mappers.impl.BookMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    @Param({"direct", "modelmapper"})
+    public String implementation;
+
+    private Mapper<AuthorEntity, AuthorDto> authorMapper;
+
+    private Mapper<BookEntity, BookDto> bookMapper;
+
+    private AuthorEntity authorEntity;
+
+    private AuthorDto authorDto;
+
+    private BookEntity bookEntity;
+
+    private BookDto bookDto;
+
+    @Setup
+    public void setUp(){
+        if (implementation.equals("direct")){
+            authorMapper = new AuthorDirectMapperImpl();
+            bookMapper = new BookDirectMapperImpl(authorMapper);
+        } else {
+            ModelMapper modelMapper = new MapperConfig().modelMapper();
+            authorMapper = new AuthorMapperImpl(modelMapper);
+            bookMapper = new BookMapperImpl(modelMapper);
+        }
+        authorEntity = AuthorEntity.builder()
+                .id(1L)
+                .name("Lev Tolstoy")
+                .age(82)
+                .build();
+        bookEntity = BookEntity.builder()
+                .isbn("9-111-234-90")
+                .title("War and Peace")
+                .authorEntity(authorEntity)
+                .build();
+        authorDto = authorMapper.mapTo(authorEntity);
+        bookDto = bookMapper.mapTo(bookEntity);
+    }
+
+    @Benchmark
+    public AuthorDto authorMapTo(){
+        return authorMapper.mapTo(authorEntity);
+    }
+
+    @Benchmark
+    public AuthorEntity authorMapFrom(){
+        return authorMapper.mapFrom(authorDto);
+    }
+
+    @Benchmark
+    public BookDto bookMapTo(){
+        return bookMapper.mapTo(bookEntity);
+    }
+
+    @Benchmark
+    public BookEntity bookMapFrom(){
+        return bookMapper.mapFrom(bookDto);
+    }
+}
@@ -0,0 +1,49 @@
+package com.springproject.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.dto.BookDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private Page<BookDto> page;
+
+    @Setup
+    public void setUp(){
+        objectMapper = new ObjectMapper();
+        List<BookDto> books = IntStream.range(0, pageSize)
+                .mapToObj(i -> BookDto.builder()
+                        .isbn("978-" + i)
+                        .title("Title " + i)
+                        .authorEntity(AuthorDto.builder()
+                                .id((long) i)
+                                .name("Author " + i)
+                                .age(30 + i % 50)
+                                .build())
+                        .build())
+                .toList();
+        page = new PageImpl<>(books, PageRequest.of(0, pageSize), pageSize * 100L);
+    }
+
+    @Benchmark
+    public byte[] serializeBookPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,71 @@
+package com.springproject.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.dto.BookDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadFormatBenchmark {
+
+    private static final TypeReference<List<BookDto>> BOOK_LIST = new TypeReference<>() {};
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"20", "1000"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private List<BookDto> books;
+
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> new ObjectMapper(new CBORFactory());
+            case "smile" -> new ObjectMapper(new SmileFactory());
+            default -> new ObjectMapper();
+        };
+        books = IntStream.range(0, pageSize)
+                .mapToObj(i -> BookDto.builder()
+                        .isbn("978-" + i)
+                        .title("Title " + i)
+                        .authorEntity(AuthorDto.builder()
+                                .id((long) i)
+                                .name("Author " + i)
+                                .age(30 + i % 50)
+                                .build())
+                        .build())
+                .toList();
+        encoded = objectMapper.writeValueAsBytes(books);
+    }
+
+    // the timings only tell half the story, so put the wire size next to them in the run log
+    @TearDown(Level.Trial)
+    public void reportSize(){
+        System.out.printf("%n%s page of %d books: %d bytes%n", format, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(books);
+    }
+
+    @Benchmark
+    public List<BookDto> decode() throws IOException {
+        return objectMapper.readValue(encoded, BOOK_LIST);
+    }
+}
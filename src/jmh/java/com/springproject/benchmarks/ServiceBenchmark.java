@@ -0,0 +1,134 @@
+package com.springproject.benchmarks;
+
+import com.springproject.SpringProjectApplication;
+import com.springproject.config.CacheConfig;
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.domain.entities.BookEntity;
+import com.springproject.services.AuthorService;
+import com.springproject.services.BookService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private ConfigurableApplicationContext context;
+
+    private AuthorService authorService;
+
+    private BookService bookService;
+
+    private List<Long> authorIds;
+
+    private Cache bookCache;
+
+    private Cache authorCache;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        context = new SpringApplicationBuilder(SpringProjectApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop")
+                .run();
+        authorService = context.getBean(AuthorService.class);
+        bookService = context.getBean(BookService.class);
+        CacheManager cacheManager = context.getBean(CacheManager.class);
+        bookCache = cacheManager.getCache(CacheConfig.BOOKS);
+        authorCache = cacheManager.getCache(CacheConfig.AUTHORS);
+
+        authorIds = authorService.saveAll(IntStream.range(0, ROWS)
+                .mapToObj(i -> AuthorEntity.builder()
+                        .name("Author " + i)
+                        .age(20 + i % 60)
+                        .build())
+                .toList());
+        for (int i = 0; i < ROWS; i++){
+            bookService.createUpdateBook(isbn(i), BookEntity.builder()
+                    .title("Title " + i)
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        context.close();
+    }
+
+    private static String isbn(int i){
+        return "978-" + i;
+    }
+
+    @Benchmark
+    public Optional<BookEntity> bookFindOne(){
+        return bookService.findOne(isbn(ThreadLocalRandom.current().nextInt(ROWS)));
+    }
+
+    // every key is cached after warm-up, so the plain findOne measures Caffeine; evict first to reach the database
+    @Benchmark
+    public Optional<BookEntity> bookFindOneUncached(){
+        String isbn = isbn(ThreadLocalRandom.current().nextInt(ROWS));
+        bookCache.evict(isbn);
+        return bookService.findOne(isbn);
+    }
+
+    @Benchmark
+    public Page<BookEntity> bookFindAllPage(){
+        int page = ThreadLocalRandom.current().nextInt(ROWS / 20);
+        return bookService.findAll(PageRequest.of(page, 20));
+    }
+
+    @Benchmark
+    public boolean bookUpsert(){
+        int i = ThreadLocalRandom.current().nextInt(ROWS);
+        return bookService.upsert(isbn(i), BookEntity.builder()
+                .title("Title " + i)
+                .build());
+    }
+
+    @Benchmark
+    public Optional<AuthorEntity> authorFindOne(){
+        return authorService.findOne(authorIds.get(ThreadLocalRandom.current().nextInt(ROWS)));
+    }
+
+    @Benchmark
+    public Optional<AuthorEntity> authorFindOneUncached(){
+        Long id = authorIds.get(ThreadLocalRandom.current().nextInt(ROWS));
+        authorCache.evict(id);
+        return authorService.findOne(id);
+    }
+
+    @Benchmark
+    public Page<AuthorEntity> authorFindAllPage(){
+        int page = ThreadLocalRandom.current().nextInt(ROWS / 20);
+        return authorService.findAll(PageRequest.of(page, 20));
+    }
+
+    @Benchmark
+    public Optional<AuthorEntity> authorPartialUpdate(){
+        Long id = authorIds.get(ThreadLocalRandom.current().nextInt(ROWS));
+        return authorService.partialUpdate(id, AuthorEntity.builder()
+                .age(ThreadLocalRandom.current().nextInt(20, 80))
+                .build());
+    }
+}
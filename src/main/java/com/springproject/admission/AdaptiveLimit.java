@@ -0,0 +1,80 @@
+package com.springproject.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Additive-increase/multiplicative-decrease concurrency limit: responses slower than the target
+ * latency shrink it, fast responses under real load let it grow back.
+ */
+final class AdaptiveLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long targetLatencyNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+
+    private long lastDecrease;
+
+    AdaptiveLimit(AdmissionProperties.Budget budget){
+        this(budget, System::nanoTime);
+    }
+
+    AdaptiveLimit(AdmissionProperties.Budget budget, LongSupplier nanoClock){
+        this.nanoClock = nanoClock;
+        this.lastDecrease = nanoClock.getAsLong();
+        this.minLimit = Math.max(1, budget.getMinLimit());
+        this.maxLimit = Math.max(minLimit, budget.getMaxLimit());
+        this.targetLatencyNanos = budget.getTargetLatency().toNanos();
+        this.limit = Math.min(maxLimit, Math.max(minLimit, budget.getInitialLimit()));
+    }
+
+    boolean tryAcquire(){
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit){
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    void release(){
+        inFlight.decrementAndGet();
+    }
+
+    void release(long latencyNanos){
+        int used = inFlight.getAndDecrement();
+        synchronized (this){
+            if (latencyNanos > targetLatencyNanos){
+                long now = nanoClock.getAsLong();
+                // at most one decrease per target interval, or a burst of slow responses drops straight to the floor
+                if (now - lastDecrease >= targetLatencyNanos){
+                    limit = Math.max(minLimit, (int) (limit * BACKOFF_RATIO));
+                    lastDecrease = now;
+                }
+            } else if (used * 2 >= limit){
+                // an idle budget says nothing about capacity, so only grow while it is actually in use
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    int limit(){
+        return limit;
+    }
+
+    int inFlight(){
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,153 @@
+package com.springproject.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sheds load before a request reaches a controller and waits on the connection pool: 429 when a
+ * route is over its own cap, 503 when the shared read or write budget is exhausted.
+ */
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT = AdmissionControlInterceptor.class.getName() + ".PERMIT";
+
+    private static final Set<String> READ_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private final AdaptiveLimit readLimit;
+
+    private final AdaptiveLimit writeLimit;
+
+    private final Set<String> readRoutes;
+
+    private final Set<String> excludedRoutes;
+
+    private final Map<String, Integer> routeLimits;
+
+    private final Map<String, AtomicInteger> routeInFlight = new HashMap<>();
+
+    private final String retryAfterSeconds;
+
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionControlInterceptor(AdmissionProperties properties, MeterRegistry meterRegistry){
+        this.readLimit = new AdaptiveLimit(properties.getRead());
+        this.writeLimit = new AdaptiveLimit(properties.getWrite());
+        this.readRoutes = Set.copyOf(properties.getReadRoutes());
+        this.excludedRoutes = Set.copyOf(properties.getExcludedRoutes());
+        this.routeLimits = Map.copyOf(properties.getRoutes());
+        this.routeLimits.keySet().forEach(route -> routeInFlight.put(route, new AtomicInteger()));
+        this.retryAfterSeconds = Long.toString(Math.max(1, properties.getRetryAfter().toSeconds()));
+        this.meterRegistry = meterRegistry;
+        registerGauges("read", readLimit);
+        registerGauges("write", writeLimit);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // async and error dispatches belong to a request that was already admitted
+        if (request.getDispatcherType() != DispatcherType.REQUEST){
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = request.getMethod() + " " + (pattern == null ? "UNKNOWN" : pattern);
+        if (excludedRoutes.contains(route)){
+            return true;
+        }
+        boolean read = READ_METHODS.contains(request.getMethod()) || readRoutes.contains(route);
+        String budgetName = read ? "read" : "write";
+        AdaptiveLimit budget = read ? readLimit : writeLimit;
+
+        AtomicInteger routeCount = routeInFlight.get(route);
+        if (routeCount != null && routeCount.incrementAndGet() > routeLimits.get(route)){
+            routeCount.decrementAndGet();
+            return reject(response, HttpStatus.TOO_MANY_REQUESTS, budgetName, route);
+        }
+        if (!budget.tryAcquire()){
+            if (routeCount != null){
+                routeCount.decrementAndGet();
+            }
+            return reject(response, HttpStatus.SERVICE_UNAVAILABLE, budgetName, route);
+        }
+        request.setAttribute(PERMIT, new Permit(budget, routeCount, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Permit permit = (Permit) request.getAttribute(PERMIT);
+        if (permit != null){
+            permit.async = true;
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Permit permit = (Permit) request.getAttribute(PERMIT);
+        if (permit == null){
+            return;
+        }
+        request.removeAttribute(PERMIT);
+        if (permit.routeCount != null){
+            permit.routeCount.decrementAndGet();
+        }
+        // streamed responses run as long as the client reads, which says nothing about database latency
+        if (permit.async){
+            permit.budget.release();
+        } else {
+            permit.budget.release(System.nanoTime() - permit.admittedAt);
+        }
+    }
+
+    private boolean reject(HttpServletResponse response, HttpStatus status, String budget, String route){
+        Counter.builder("admission.rejected")
+                .tag("budget", budget)
+                .tag("uri", route)
+                .tag("status", Integer.toString(status.value()))
+                .register(meterRegistry)
+                .increment();
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        return false;
+    }
+
+    private void registerGauges(String budget, AdaptiveLimit limit){
+        Gauge.builder("admission.limit", limit, AdaptiveLimit::limit)
+                .tag("budget", budget)
+                .register(meterRegistry);
+        Gauge.builder("admission.in.flight", limit, AdaptiveLimit::inFlight)
+                .tag("budget", budget)
+                .register(meterRegistry);
+    }
+
+    private static final class Permit {
+
+        private final AdaptiveLimit budget;
+
+        private final AtomicInteger routeCount;
+
+        private final long admittedAt;
+
+        private volatile boolean async;
+
+        private Permit(AdaptiveLimit budget, AtomicInteger routeCount, long admittedAt){
+            this.budget = budget;
+            this.routeCount = routeCount;
+            this.admittedAt = admittedAt;
+        }
+    }
+}
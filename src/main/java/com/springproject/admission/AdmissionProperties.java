@@ -0,0 +1,48 @@
+package com.springproject.admission;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties("admission")
+public class AdmissionProperties {
+
+    private boolean enabled;
+
+    private Budget read = new Budget(20, 4, 100, Duration.ofMillis(250));
+
+    private Budget write = new Budget(10, 2, 40, Duration.ofMillis(500));
+
+    // routes whose method says write but whose work is a read, keyed like "POST /books/lookup"
+    private List<String> readRoutes = new ArrayList<>(List.of("POST /books/lookup", "POST /authors/lookup"));
+
+    // long-lived streams that never touch the pool and would otherwise pin a permit each
+    private List<String> excludedRoutes = new ArrayList<>(List.of("GET /books/changes", "GET /authors/changes"));
+
+    // fixed concurrency caps for single routes, keyed like "GET /books/export"
+    private Map<String, Integer> routes = new HashMap<>();
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Budget {
+
+        private int initialLimit;
+
+        private int minLimit;
+
+        private int maxLimit;
+
+        private Duration targetLatency;
+    }
+}
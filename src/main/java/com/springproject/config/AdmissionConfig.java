@@ -0,0 +1,35 @@
+package com.springproject.config;
+
+import com.springproject.admission.AdmissionControlInterceptor;
+import com.springproject.admission.AdmissionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "admission", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    private final AdmissionProperties admissionProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionConfig(AdmissionProperties admissionProperties, MeterRegistry meterRegistry){
+        this.admissionProperties = admissionProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // ahead of every other interceptor, so a shed request costs no more than a header write
+        registry.addInterceptor(new AdmissionControlInterceptor(admissionProperties, meterRegistry))
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
@@ -0,0 +1,15 @@
+package com.springproject.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+// evictions must run outside the transaction interceptor, i.e. after commit
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE + 1)
+public class CacheConfig {
+
+    public static final String BOOKS = "books";
+
+    public static final String AUTHORS = "authors";
+}
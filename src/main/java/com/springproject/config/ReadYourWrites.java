@@ -0,0 +1,105 @@
+package com.springproject.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Remembers, per client, when its last write committed: on the request itself and in a signed
+ * {@code last-write} cookie, so that only that client's reads stay on the primary for the window.
+ */
+class ReadYourWrites {
+
+    static final String COOKIE = "last-write";
+
+    private static final String LAST_WRITE = ReadYourWrites.class.getName() + ".LAST_WRITE";
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final Duration window;
+
+    private final SecretKeySpec key;
+
+    ReadYourWrites(Duration window, byte[] key){
+        this.window = window;
+        this.key = new SecretKeySpec(key, HMAC);
+    }
+
+    void recordWrite(){
+        if (window.isZero() || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        attributes.getRequest().setAttribute(LAST_WRITE, now);
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE, cookieValue(now));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        }
+    }
+
+    boolean wroteRecently(){
+        if (window.isZero() || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        Long lastWrite = lastWrite(attributes.getRequest());
+        if (lastWrite == null) {
+            return false;
+        }
+        long age = System.currentTimeMillis() - lastWrite;
+        return age >= 0 && age < window.toMillis();
+    }
+
+    String cookieValue(long lastWrite){
+        return lastWrite + "." + sign(lastWrite);
+    }
+
+    private Long lastWrite(HttpServletRequest request){
+        if (request.getAttribute(LAST_WRITE) instanceof Long lastWrite) {
+            return lastWrite;
+        }
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie == null) {
+            return null;
+        }
+        String value = cookie.getValue();
+        int dot = value.indexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        try {
+            long lastWrite = Long.parseLong(value.substring(0, dot));
+            boolean signed = MessageDigest.isEqual(
+                    sign(lastWrite).getBytes(StandardCharsets.US_ASCII),
+                    value.substring(dot + 1).getBytes(StandardCharsets.US_ASCII));
+            return signed ? lastWrite : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String sign(long lastWrite){
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            byte[] signature = mac.doFinal(Long.toString(lastWrite).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.springproject.config;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+class ReadYourWritesTransactionManager extends JpaTransactionManager {
+
+    private final ReadYourWrites readYourWrites;
+
+    ReadYourWritesTransactionManager(ReadYourWrites readYourWrites){
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        super.doCommit(status);
+        // only reached once the commit went through, on the thread that serves the request
+        if (!status.isReadOnly()) {
+            readYourWrites.recordWrite();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.springproject.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Active once {@code datasource.replica.jdbc-url} is set: read-only transactions go to the replica,
+ * everything else to {@code spring.datasource}. A client whose request committed a read-write transaction
+ * gets a signed {@code last-write} cookie and reads from the primary for
+ * {@code datasource.routing.read-your-writes-window}; {@code datasource.routing.read-your-writes-key} shares
+ * the signing key between instances.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "jdbc-url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties){
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource(){
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReadYourWrites readYourWrites){
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(readYourWrites);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReplicaRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // the transaction manager grabs a connection before the read-only flag is visible to the router
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // without a configured key the cookie only verifies on the instance that issued it
+    @Bean
+    ReadYourWrites readYourWrites(
+            @Value("${datasource.routing.read-your-writes-window:5s}") Duration window,
+            @Value("${datasource.routing.read-your-writes-key:}") String key){
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length == 0) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        }
+        return new ReadYourWrites(window, keyBytes);
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(
+            ReadYourWrites readYourWrites,
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers){
+        JpaTransactionManager transactionManager = new ReadYourWritesTransactionManager(readYourWrites);
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,23 @@
+package com.springproject.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final ReadYourWrites readYourWrites;
+
+    ReplicaRoutingDataSource(ReadYourWrites readYourWrites){
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        return readYourWrites.wroteRecently() ? Route.PRIMARY : Route.REPLICA;
+    }
+}
@@ -0,0 +1,20 @@
+package com.springproject.controllers;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+
+final class ApproximateCounts {
+
+    static final String HEADER = "X-Total-Count-Estimate";
+
+    private ApproximateCounts(){}
+
+    static <T> ResponseEntity<Slice<T>> withApproximateCount(Slice<T> slice, Optional<Long> approximateCount){
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        approximateCount.ifPresent(count -> response.header(HEADER, String.valueOf(count)));
+        return response.body(slice);
+    }
+}
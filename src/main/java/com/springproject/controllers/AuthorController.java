@@ -1,29 +1,52 @@
 package com.springproject.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.dto.CursorPage;
+import com.springproject.domain.dto.Lookup;
 import com.springproject.domain.entities.AuthorEntity;
 import com.springproject.mappers.Mapper;
 import com.springproject.services.AuthorService;
+import com.springproject.services.ChangeFeedService;
 import lombok.extern.java.Log;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.Optional;
 
 @RestController
+@Profile("!reactive")
 @Log
 public class AuthorController {
 
     private final AuthorService authorService;
 
+    private final ChangeFeedService changeFeedService;
+
     private Mapper<AuthorEntity, AuthorDto> authorMapper;
 
-    public AuthorController(AuthorService authorService, Mapper<AuthorEntity, AuthorDto> authorMapper){
+    private final ObjectMapper objectMapper;
+
+    public AuthorController(AuthorService authorService,
+                            ChangeFeedService changeFeedService,
+                            Mapper<AuthorEntity, AuthorDto> authorMapper,
+                            ObjectMapper objectMapper){
         this.authorService = authorService;
+        this.changeFeedService = changeFeedService;
         this.authorMapper = authorMapper;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping(path = "/authors")
@@ -35,22 +58,104 @@ public class AuthorController {
         return new ResponseEntity<>(authorMapper.mapTo(saveAuthorEntity), HttpStatus.CREATED);
     }
 
+    @PostMapping(path = "/authors/batch")
+    public ResponseEntity<List<Long>> createAuthors(@RequestBody List<AuthorDto> authors){
+
+        List<AuthorEntity> authorEntities = authors.stream()
+                .map(authorMapper::mapFrom)
+                .toList();
+        List<Long> ids = authorService.saveAll(authorEntities);
+
+        return new ResponseEntity<>(ids, HttpStatus.CREATED);
+    }
+
     @GetMapping(path = "/authors")
     public Page<AuthorDto> listAuthors(Pageable pageable){
 
-        Page<AuthorEntity> authors = authorService.findAll(pageable);
+        Page<AuthorDto> authors = authorService.findAllProjected(pageable);
         log.info("Found authors.");
-        return authors.map(authorMapper::mapTo);
+        return authors;
     }
 
-    @GetMapping(path = "/authors/{id}")
-    public ResponseEntity<AuthorDto> getAuthor(@PathVariable("id") Long id){
+    @GetMapping(path = "/authors", params = "count=false")
+    public ResponseEntity<Slice<AuthorDto>> listAuthorsWithoutCount(Pageable pageable){
+        return ApproximateCounts.withApproximateCount(
+                authorService.findSliceProjected(pageable), authorService.approximateCount());
+    }
+
+    @GetMapping(path = "/authors", params = "id")
+    public ResponseEntity<Lookup<AuthorDto, Long>> lookupAuthors(@RequestParam("id") List<Long> ids){
+        return lookupAuthorsById(ids);
+    }
+
+    @PostMapping(path = "/authors/lookup")
+    public ResponseEntity<Lookup<AuthorDto, Long>> lookupAuthorsByBody(@RequestBody List<Long> ids){
+        return lookupAuthorsById(ids);
+    }
+
+    private ResponseEntity<Lookup<AuthorDto, Long>> lookupAuthorsById(List<Long> ids){
+        try {
+            return new ResponseEntity<>(authorService.lookup(ids), HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @GetMapping(path = "/authors", params = "after")
+    public ResponseEntity<CursorPage<AuthorDto>> listAuthorsAfter(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sort", defaultValue = "id") String sort){
+
+        CursorPage<AuthorEntity> authors;
+        try {
+            authors = authorService.findAllAfter(after, size, sort);
+        } catch (IllegalArgumentException e){
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(authors.map(authorMapper::mapTo), HttpStatus.OK);
+    }
+
+    @GetMapping(path = "/authors/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAuthors(){
+        StreamingResponseBody body = outputStream -> authorService.exportAll(authorEntity -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(authorMapper.mapTo(authorEntity)));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return new ResponseEntity<>(body, HttpStatus.OK);
+    }
+
+    @GetMapping(path = "/authors/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter authorChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId){
+        return changeFeedService.subscribeToAuthors(lastEventId);
+    }
 
+    @GetMapping(path = "/authors/{id}")
+    public ResponseEntity<AuthorDto> getAuthor(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+
+        if (ifNoneMatch != null){
+            Optional<Long> version = authorService.findVersion(id);
+            if (version.isEmpty()){
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            String eTag = EntityTags.of(version.get());
+            if (EntityTags.matches(ifNoneMatch, eTag)){
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
         Optional<AuthorEntity> foundAuthor = authorService.findOne(id);
 
         return foundAuthor.map(authorEntity -> {
             AuthorDto authorDto = authorMapper.mapTo(authorEntity);
-            return new ResponseEntity<>(authorDto, HttpStatus.OK);
+            return ResponseEntity.ok()
+                    .eTag(EntityTags.of(authorEntity.getVersion()))
+                    .body(authorDto);
         }).orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
@@ -74,14 +179,10 @@ public class AuthorController {
             @PathVariable("id") Long id,
             @RequestBody AuthorDto authorDto){
 
-        if(!authorService.isExist(id)){
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
         AuthorEntity authorEntity = authorMapper.mapFrom(authorDto);
-        AuthorEntity updatedAuthor = authorService.partialUpdate(id, authorEntity);
-        return new ResponseEntity<>(
-                authorMapper.mapTo(updatedAuthor),
-                HttpStatus.OK);
+        return authorService.partialUpdate(id, authorEntity)
+                .map(updatedAuthor -> new ResponseEntity<>(authorMapper.mapTo(updatedAuthor), HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     @DeleteMapping(path = "/authors/{id}")
@@ -1,30 +1,67 @@
 package com.springproject.controllers;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springproject.domain.dto.BookDto;
+import com.springproject.domain.dto.CursorPage;
+import com.springproject.domain.dto.Lookup;
 import com.springproject.domain.entities.BookEntity;
+import com.springproject.domain.projections.BookVersion;
 import com.springproject.mappers.Mapper;
+import com.springproject.services.AuthorService;
 import com.springproject.services.BookService;
+import com.springproject.services.ChangeFeedService;
+import com.springproject.services.SearchService;
+import com.springproject.services.UnknownAuthorException;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.Optional;
 
 
 @RestController
+@Profile("!reactive")
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class BookController {
 
+    private static final int MAX_SEARCH_RESULTS = 100;
+
     private final BookService bookService;
 
+    private final SearchService searchService;
+
+    private final AuthorService authorService;
+
+    private final ChangeFeedService changeFeedService;
+
     private Mapper<BookEntity, BookDto> bookMapper;
 
-    public BookController(BookService bookService, Mapper<BookEntity, BookDto> bookMapper){
+    private final ObjectMapper objectMapper;
+
+    public BookController(BookService bookService,
+                          SearchService searchService,
+                          AuthorService authorService,
+                          ChangeFeedService changeFeedService,
+                          Mapper<BookEntity, BookDto> bookMapper,
+                          ObjectMapper objectMapper){
         this.bookService = bookService;
+        this.searchService = searchService;
+        this.authorService = authorService;
+        this.changeFeedService = changeFeedService;
         this.bookMapper = bookMapper;
+        this.objectMapper = objectMapper;
     }
 
     @PutMapping(path = "/books/{isbn}")
@@ -33,15 +70,19 @@ public class BookController {
             @RequestBody BookDto bookDto){
 
         BookEntity bookEntity = bookMapper.mapFrom(bookDto);
-        boolean bookExists = bookService.isExist(isbn);
-        BookEntity savedBookEntity = bookService.createUpdateBook(isbn, bookEntity);
-        BookDto saveUpdateBook = bookMapper.mapTo(savedBookEntity);
-        if (bookExists){
+        boolean bookCreated;
+        try {
+            bookCreated = bookService.upsert(isbn, bookEntity);
+        } catch (UnknownAuthorException e){
+            return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+        BookDto saveUpdateBook = bookMapper.mapTo(bookEntity);
+        if (bookCreated){
             return new ResponseEntity<>(saveUpdateBook,
-                    HttpStatus.OK);
+                    HttpStatus.CREATED);
         } else {
             return new ResponseEntity<>(saveUpdateBook,
-                    HttpStatus.CREATED);
+                    HttpStatus.OK);
         }
     }
 
@@ -50,28 +91,114 @@ public class BookController {
             @PathVariable("isbn") String isbn,
             @RequestBody BookDto bookDto){
 
-        if(!bookService.isExist(isbn)){
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
         BookEntity bookEntity = bookMapper.mapFrom(bookDto);
-        BookEntity updatedBook = bookService.partialUpdate(isbn, bookEntity);
-        return  new ResponseEntity<>(
-                bookMapper.mapTo(updatedBook),
-                HttpStatus.OK);
+        return bookService.partialUpdate(isbn, bookEntity)
+                .map(updatedBook -> new ResponseEntity<>(bookMapper.mapTo(updatedBook), HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     @GetMapping(path = "/books")
     public Page<BookDto> listBooks(Pageable pageable){
-        Page<BookEntity> bookEntities = bookService.findAll(pageable);
-        return bookEntities.map(bookMapper::mapTo);
+        return bookService.findAllProjected(pageable);
+    }
+
+    @GetMapping(path = "/books", params = "count=false")
+    public ResponseEntity<Slice<BookDto>> listBooksWithoutCount(Pageable pageable){
+        return ApproximateCounts.withApproximateCount(bookService.findSliceProjected(pageable), bookService.approximateCount());
+    }
+
+    @GetMapping(path = "/books", params = "isbn")
+    public ResponseEntity<Lookup<BookDto, String>> lookupBooks(@RequestParam("isbn") List<String> isbns){
+        return lookupBooksByIsbn(isbns);
+    }
+
+    @PostMapping(path = "/books/lookup")
+    public ResponseEntity<Lookup<BookDto, String>> lookupBooksByBody(@RequestBody List<String> isbns){
+        return lookupBooksByIsbn(isbns);
+    }
+
+    private ResponseEntity<Lookup<BookDto, String>> lookupBooksByIsbn(List<String> isbns){
+        try {
+            return new ResponseEntity<>(bookService.lookup(isbns), HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @GetMapping(path = "/books", params = "after")
+    public ResponseEntity<CursorPage<BookDto>> listBooksAfter(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sort", defaultValue = "isbn") String sort){
+
+        CursorPage<BookEntity> bookEntities;
+        try {
+            bookEntities = bookService.findAllAfter(after, size, sort);
+        } catch (IllegalArgumentException e){
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(bookEntities.map(bookMapper::mapTo), HttpStatus.OK);
+    }
+
+    @GetMapping(path = "/authors/{id}/books")
+    public ResponseEntity<Page<BookDto>> listAuthorBooks(@PathVariable("id") Long id, Pageable pageable){
+        if (!authorService.isExist(id)){
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        Page<BookEntity> bookEntities = bookService.findAllByAuthor(id, pageable);
+        return new ResponseEntity<>(bookEntities.map(bookMapper::mapTo), HttpStatus.OK);
+    }
+
+    @GetMapping(path = "/books/search")
+    public List<BookDto> searchBooks(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "20") int limit){
+        return searchService.searchBooks(query, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)))
+                .stream()
+                .map(bookMapper::mapTo)
+                .toList();
+    }
+
+    @GetMapping(path = "/books/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBooks(){
+        StreamingResponseBody body = outputStream -> bookService.exportAll(bookEntity -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(bookMapper.mapTo(bookEntity)));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return new ResponseEntity<>(body, HttpStatus.OK);
+    }
+
+    @GetMapping(path = "/books/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter bookChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId){
+        return changeFeedService.subscribeToBooks(lastEventId);
     }
 
     @GetMapping(path = "/books/{isbn}")
-    public ResponseEntity<BookDto> getBook(@PathVariable("isbn") String isbn){
+    public ResponseEntity<BookDto> getBook(
+            @PathVariable("isbn") String isbn,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+
+        if (ifNoneMatch != null){
+            Optional<BookVersion> version = bookService.findVersion(isbn);
+            if (version.isEmpty()){
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            String eTag = EntityTags.of(version.get().getVersion(), version.get().getAuthorVersion());
+            if (EntityTags.matches(ifNoneMatch, eTag)){
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
         Optional<BookEntity> book = bookService.findOne(isbn);
         return book.map(findBook -> {
             BookDto bookDto = bookMapper.mapTo(findBook);
-            return new ResponseEntity<>(bookDto, HttpStatus.OK);
+            Long authorVersion = findBook.getAuthorEntity() == null ? null : findBook.getAuthorEntity().getVersion();
+            return ResponseEntity.ok()
+                    .eTag(EntityTags.of(findBook.getVersion(), authorVersion))
+                    .body(bookDto);
         }).orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
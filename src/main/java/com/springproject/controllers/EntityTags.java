@@ -0,0 +1,37 @@
+package com.springproject.controllers;
+
+final class EntityTags {
+
+    private EntityTags(){}
+
+    static String of(long version){
+        return "\"" + version + "\"";
+    }
+
+    static String of(long version, Long nestedVersion){
+        // a book's representation embeds its author, so both versions go into the tag
+        return nestedVersion == null
+                ? "\"" + version + "\""
+                : "\"" + version + "." + nestedVersion + "\"";
+    }
+
+    static boolean matches(String ifNoneMatch, String eTag){
+        if (ifNoneMatch == null){
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")){
+            String tag = candidate.trim();
+            if (tag.equals("*")){
+                return true;
+            }
+            // If-None-Match uses the weak comparison function
+            if (tag.startsWith("W/")){
+                tag = tag.substring(2);
+            }
+            if (tag.equals(eTag)){
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,105 @@
+package com.springproject.controllers;
+
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.rows.AuthorRow;
+import com.springproject.mappers.Mapper;
+import com.springproject.services.ReactiveAuthorService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+public class ReactiveAuthorController {
+
+    private final ReactiveAuthorService authorService;
+
+    private final Mapper<AuthorRow, AuthorDto> authorMapper;
+
+    public ReactiveAuthorController(ReactiveAuthorService authorService, Mapper<AuthorRow, AuthorDto> authorMapper){
+        this.authorService = authorService;
+        this.authorMapper = authorMapper;
+    }
+
+    @PostMapping(path = "/authors")
+    public Mono<ResponseEntity<AuthorDto>> createAuthor(@RequestBody AuthorDto author){
+        AuthorRow authorRow = authorMapper.mapFrom(author);
+        authorRow.setId(null);
+        return authorService.save(authorRow)
+                .map(savedAuthor -> new ResponseEntity<>(authorMapper.mapTo(savedAuthor), HttpStatus.CREATED));
+    }
+
+    @GetMapping(path = "/authors")
+    public Mono<ResponseEntity<Page<AuthorDto>>> listAuthors(Pageable pageable){
+        return authorService.findAll(pageable)
+                .map(authors -> ResponseEntity.ok(authors.map(authorMapper::mapTo)))
+                .onErrorReturn(IllegalArgumentException.class, new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+
+    @GetMapping(path = "/authors", params = "count=false")
+    public Mono<ResponseEntity<Slice<AuthorDto>>> listAuthorsWithoutCount(Pageable pageable){
+        return authorService.findSlice(pageable)
+                .map(authors -> ResponseEntity.ok(authors.map(authorMapper::mapTo)))
+                .onErrorReturn(IllegalArgumentException.class, new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+
+    // the response is written as rows arrive, and the driver only fetches what the client consumes
+    @GetMapping(path = "/authors/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AuthorDto> exportAuthors(){
+        return authorService.exportAll().map(authorMapper::mapTo);
+    }
+
+    @GetMapping(path = "/authors/{id}")
+    public Mono<ResponseEntity<AuthorDto>> getAuthor(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+
+        return authorService.findOne(id)
+                .map(authorRow -> {
+                    String eTag = EntityTags.of(authorRow.getVersion());
+                    if (EntityTags.matches(ifNoneMatch, eTag)){
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<AuthorDto>build();
+                    }
+                    return ResponseEntity.ok().eTag(eTag).body(authorMapper.mapTo(authorRow));
+                })
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @PutMapping(path = "/authors/{id}")
+    public Mono<ResponseEntity<AuthorDto>> fullUpdateAuthor(
+            @PathVariable("id") Long id,
+            @RequestBody AuthorDto authorDto){
+
+        authorDto.setId(id);
+        AuthorRow authorRow = authorMapper.mapFrom(authorDto);
+        return authorService.isExist(id)
+                .flatMap(exists -> exists
+                        ? authorService.save(authorRow)
+                                .map(savedAuthor -> new ResponseEntity<>(authorMapper.mapTo(savedAuthor), HttpStatus.OK))
+                        : Mono.just(new ResponseEntity<AuthorDto>(HttpStatus.NOT_FOUND)));
+    }
+
+    @PatchMapping(path = "/authors/{id}")
+    public Mono<ResponseEntity<AuthorDto>> partialUpdate(
+            @PathVariable("id") Long id,
+            @RequestBody AuthorDto authorDto){
+
+        return authorService.partialUpdate(id, authorMapper.mapFrom(authorDto))
+                .map(updatedAuthor -> new ResponseEntity<>(authorMapper.mapTo(updatedAuthor), HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @DeleteMapping(path = "/authors/{id}")
+    public Mono<ResponseEntity<Void>> deleteAuthor(@PathVariable("id") Long id){
+        return authorService.delete(id)
+                .thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+}
@@ -0,0 +1,112 @@
+package com.springproject.controllers;
+
+import com.springproject.domain.dto.BookDto;
+import com.springproject.domain.rows.BookView;
+import com.springproject.mappers.Mapper;
+import com.springproject.services.ReactiveAuthorService;
+import com.springproject.services.ReactiveBookService;
+import com.springproject.services.UnknownAuthorException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+public class ReactiveBookController {
+
+    private final ReactiveBookService bookService;
+
+    private final ReactiveAuthorService authorService;
+
+    private final Mapper<BookView, BookDto> bookMapper;
+
+    public ReactiveBookController(ReactiveBookService bookService,
+                                  ReactiveAuthorService authorService,
+                                  Mapper<BookView, BookDto> bookMapper){
+        this.bookService = bookService;
+        this.authorService = authorService;
+        this.bookMapper = bookMapper;
+    }
+
+    @PutMapping(path = "/books/{isbn}")
+    public Mono<ResponseEntity<BookDto>> createUpdateBook(
+            @PathVariable("isbn") String isbn,
+            @RequestBody BookDto bookDto){
+
+        BookView book = bookMapper.mapFrom(bookDto);
+        return bookService.upsert(isbn, book)
+                .map(created -> new ResponseEntity<>(bookMapper.mapTo(book),
+                        created ? HttpStatus.CREATED : HttpStatus.OK))
+                .onErrorReturn(UnknownAuthorException.class, new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY));
+    }
+
+    @PatchMapping(path = "/books/{isbn}")
+    public Mono<ResponseEntity<BookDto>> partialUpdateBook(
+            @PathVariable("isbn") String isbn,
+            @RequestBody BookDto bookDto){
+
+        return bookService.partialUpdate(isbn, bookMapper.mapFrom(bookDto))
+                .map(updatedBook -> new ResponseEntity<>(bookMapper.mapTo(updatedBook), HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping(path = "/books")
+    public Mono<ResponseEntity<Page<BookDto>>> listBooks(Pageable pageable){
+        return bookService.findAll(pageable)
+                .map(books -> ResponseEntity.ok(books.map(bookMapper::mapTo)))
+                .onErrorReturn(IllegalArgumentException.class, new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+
+    @GetMapping(path = "/books", params = "count=false")
+    public Mono<ResponseEntity<Slice<BookDto>>> listBooksWithoutCount(Pageable pageable){
+        return bookService.findSlice(pageable)
+                .map(books -> ResponseEntity.ok(books.map(bookMapper::mapTo)))
+                .onErrorReturn(IllegalArgumentException.class, new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+
+    @GetMapping(path = "/authors/{id}/books")
+    public Mono<ResponseEntity<Page<BookDto>>> listAuthorBooks(@PathVariable("id") Long id, Pageable pageable){
+        return authorService.isExist(id)
+                .flatMap(exists -> exists
+                        ? bookService.findAllByAuthor(id, pageable)
+                                .map(books -> new ResponseEntity<>(books.map(bookMapper::mapTo), HttpStatus.OK))
+                        : Mono.just(new ResponseEntity<Page<BookDto>>(HttpStatus.NOT_FOUND)))
+                .onErrorReturn(IllegalArgumentException.class, new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+
+    @GetMapping(path = "/books/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BookDto> exportBooks(){
+        return bookService.exportAll().map(bookMapper::mapTo);
+    }
+
+    @GetMapping(path = "/books/{isbn}")
+    public Mono<ResponseEntity<BookDto>> getBook(
+            @PathVariable("isbn") String isbn,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+
+        // without a cache in front, reading the row costs the same as reading its versions
+        return bookService.findOne(isbn)
+                .map(book -> {
+                    String eTag = EntityTags.of(book.getVersion(), book.getAuthorVersion());
+                    if (EntityTags.matches(ifNoneMatch, eTag)){
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<BookDto>build();
+                    }
+                    return ResponseEntity.ok().eTag(eTag).body(bookMapper.mapTo(book));
+                })
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @DeleteMapping(path = "/books/{isbn}")
+    public Mono<ResponseEntity<Void>> deleteBook(@PathVariable("isbn") String isbn){
+        return bookService.delete(isbn)
+                .thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+}
@@ -16,4 +16,9 @@ public class BookDto {
     private String title;
 
     private AuthorDto authorEntity;
+
+    // flat shape for JPQL constructor expressions, which cannot build the nested author themselves
+    public BookDto(String isbn, String title, Long authorId, String authorName, Integer authorAge){
+        this(isbn, title, authorId == null ? null : new AuthorDto(authorId, authorName, authorAge));
+    }
 }
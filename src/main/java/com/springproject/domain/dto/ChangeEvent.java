@@ -0,0 +1,21 @@
+package com.springproject.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeEvent {
+
+    private long id;
+
+    private String type;
+
+    private String key;
+
+    private Instant at;
+}
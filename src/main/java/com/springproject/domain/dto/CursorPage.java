@@ -0,0 +1,27 @@
+package com.springproject.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private String nextCursor;
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter){
+        List<R> mapped = content.stream()
+                .<R>map(converter)
+                .toList();
+        return new CursorPage<>(mapped, size, nextCursor);
+    }
+}
@@ -0,0 +1,17 @@
+package com.springproject.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class Lookup<T, K> {
+
+    private List<T> content;
+
+    private List<K> missing;
+}
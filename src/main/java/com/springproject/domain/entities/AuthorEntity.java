@@ -6,18 +6,21 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "authors")
+@Table(name = "authors", indexes = {
+        @Index(name = "idx_authors_name_id", columnList = "name, id")
+})
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class AuthorEntity {
 
     @Id
-    @SequenceGenerator(name = "hibernate_seq", sequenceName = "hibernate_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "hibernate_seq", sequenceName = "hibernate_id_seq", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hibernate_seq")
     private Long id;
 
@@ -25,6 +28,10 @@ public class AuthorEntity {
 
     private Integer age;
 
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
 }
 
 
@@ -6,13 +6,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "books")
+@Table(name = "books", indexes = {
+        @Index(name = "idx_books_title_isbn", columnList = "title, isbn"),
+        @Index(name = "idx_books_author_id", columnList = "author_id")
+})
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class BookEntity {
 
@@ -24,4 +28,8 @@ public class BookEntity {
     @ManyToOne(cascade = CascadeType.ALL)
     @JoinColumn(name = "author_id")
     private AuthorEntity authorEntity;
+
+    @Version
+    @ColumnDefault("0")
+    private long version;
 }
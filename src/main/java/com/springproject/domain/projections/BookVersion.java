@@ -0,0 +1,8 @@
+package com.springproject.domain.projections;
+
+public interface BookVersion {
+
+    Long getVersion();
+
+    Long getAuthorVersion();
+}
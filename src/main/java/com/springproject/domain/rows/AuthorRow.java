@@ -0,0 +1,27 @@
+package com.springproject.domain.rows;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table("authors")
+public class AuthorRow {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private Integer age;
+
+    @Version
+    private long version;
+}
@@ -0,0 +1,27 @@
+package com.springproject.domain.rows;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table("books")
+public class BookRow {
+
+    @Id
+    private String isbn;
+
+    private String title;
+
+    private Long authorId;
+
+    @Version
+    private long version;
+}
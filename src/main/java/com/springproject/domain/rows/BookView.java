@@ -0,0 +1,30 @@
+package com.springproject.domain.rows;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A book joined with its author in one row; R2DBC has no association mapping to do this for us.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookView {
+
+    private String isbn;
+
+    private String title;
+
+    private Long authorId;
+
+    private String authorName;
+
+    private Integer authorAge;
+
+    private long version;
+
+    private Long authorVersion;
+}
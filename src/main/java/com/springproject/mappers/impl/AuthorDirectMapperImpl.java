@@ -0,0 +1,35 @@
+package com.springproject.mappers.impl;
+
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.mappers.Mapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "mappers.implementation", havingValue = "direct", matchIfMissing = true)
+public class AuthorDirectMapperImpl implements Mapper<AuthorEntity, AuthorDto> {
+
+    @Override
+    public AuthorDto mapTo(AuthorEntity authorEntity) {
+        if (authorEntity == null){
+            return null;
+        }
+        return new AuthorDto(
+                authorEntity.getId(),
+                authorEntity.getName(),
+                authorEntity.getAge());
+    }
+
+    @Override
+    public AuthorEntity mapFrom(AuthorDto authorDto) {
+        if (authorDto == null){
+            return null;
+        }
+        AuthorEntity authorEntity = new AuthorEntity();
+        authorEntity.setId(authorDto.getId());
+        authorEntity.setName(authorDto.getName());
+        authorEntity.setAge(authorDto.getAge());
+        return authorEntity;
+    }
+}
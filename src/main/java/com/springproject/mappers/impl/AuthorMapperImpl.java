@@ -4,9 +4,11 @@ import com.springproject.domain.dto.AuthorDto;
 import com.springproject.domain.entities.AuthorEntity;
 import com.springproject.mappers.Mapper;
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "mappers.implementation", havingValue = "modelmapper")
 public class AuthorMapperImpl implements Mapper<AuthorEntity, AuthorDto> {
 
     private ModelMapper modelMapper;
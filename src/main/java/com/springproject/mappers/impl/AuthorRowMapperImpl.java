@@ -0,0 +1,35 @@
+package com.springproject.mappers.impl;
+
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.rows.AuthorRow;
+import com.springproject.mappers.Mapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("reactive")
+public class AuthorRowMapperImpl implements Mapper<AuthorRow, AuthorDto> {
+
+    @Override
+    public AuthorDto mapTo(AuthorRow authorRow) {
+        if (authorRow == null){
+            return null;
+        }
+        return new AuthorDto(
+                authorRow.getId(),
+                authorRow.getName(),
+                authorRow.getAge());
+    }
+
+    @Override
+    public AuthorRow mapFrom(AuthorDto authorDto) {
+        if (authorDto == null){
+            return null;
+        }
+        AuthorRow authorRow = new AuthorRow();
+        authorRow.setId(authorDto.getId());
+        authorRow.setName(authorDto.getName());
+        authorRow.setAge(authorDto.getAge());
+        return authorRow;
+    }
+}
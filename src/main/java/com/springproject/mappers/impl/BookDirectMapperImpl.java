@@ -0,0 +1,43 @@
+package com.springproject.mappers.impl;
+
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.dto.BookDto;
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.domain.entities.BookEntity;
+import com.springproject.mappers.Mapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "mappers.implementation", havingValue = "direct", matchIfMissing = true)
+public class BookDirectMapperImpl implements Mapper<BookEntity, BookDto> {
+
+    private final Mapper<AuthorEntity, AuthorDto> authorMapper;
+
+    public BookDirectMapperImpl(Mapper<AuthorEntity, AuthorDto> authorMapper){
+        this.authorMapper = authorMapper;
+    }
+
+    @Override
+    public BookDto mapTo(BookEntity bookEntity) {
+        if (bookEntity == null){
+            return null;
+        }
+        return new BookDto(
+                bookEntity.getIsbn(),
+                bookEntity.getTitle(),
+                authorMapper.mapTo(bookEntity.getAuthorEntity()));
+    }
+
+    @Override
+    public BookEntity mapFrom(BookDto bookDto) {
+        if (bookDto == null){
+            return null;
+        }
+        BookEntity bookEntity = new BookEntity();
+        bookEntity.setIsbn(bookDto.getIsbn());
+        bookEntity.setTitle(bookDto.getTitle());
+        bookEntity.setAuthorEntity(authorMapper.mapFrom(bookDto.getAuthorEntity()));
+        return bookEntity;
+    }
+}
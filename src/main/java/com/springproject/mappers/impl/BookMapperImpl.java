@@ -4,9 +4,11 @@ import com.springproject.domain.dto.BookDto;
 import com.springproject.domain.entities.BookEntity;
 import com.springproject.mappers.Mapper;
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "mappers.implementation", havingValue = "modelmapper")
 public class BookMapperImpl implements Mapper<BookEntity, BookDto> {
 
     private ModelMapper modelMapper;
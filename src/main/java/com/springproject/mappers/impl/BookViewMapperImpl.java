@@ -0,0 +1,41 @@
+package com.springproject.mappers.impl;
+
+import com.springproject.domain.dto.BookDto;
+import com.springproject.domain.rows.BookView;
+import com.springproject.mappers.Mapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("reactive")
+public class BookViewMapperImpl implements Mapper<BookView, BookDto> {
+
+    @Override
+    public BookDto mapTo(BookView bookView) {
+        if (bookView == null){
+            return null;
+        }
+        return new BookDto(
+                bookView.getIsbn(),
+                bookView.getTitle(),
+                bookView.getAuthorId(),
+                bookView.getAuthorName(),
+                bookView.getAuthorAge());
+    }
+
+    @Override
+    public BookView mapFrom(BookDto bookDto) {
+        if (bookDto == null){
+            return null;
+        }
+        BookView bookView = new BookView();
+        bookView.setIsbn(bookDto.getIsbn());
+        bookView.setTitle(bookDto.getTitle());
+        if (bookDto.getAuthorEntity() != null){
+            bookView.setAuthorId(bookDto.getAuthorEntity().getId());
+            bookView.setAuthorName(bookDto.getAuthorEntity().getName());
+            bookView.setAuthorAge(bookDto.getAuthorEntity().getAge());
+        }
+        return bookView;
+    }
+}
@@ -0,0 +1,80 @@
+package com.springproject.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the statements of one request across its dispatches, including an async task (e.g. a
+ * streamed export) that runs on the MVC executor; also registered as a callable interceptor for that.
+ */
+public class StatementCountInterceptor implements AsyncHandlerInterceptor, CallableProcessingInterceptor {
+
+    private static final String COUNT = StatementCountInterceptor.class.getName() + ".COUNT";
+
+    private final MeterRegistry meterRegistry;
+
+    public StatementCountInterceptor(MeterRegistry meterRegistry){
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AtomicInteger count = (AtomicInteger) request.getAttribute(COUNT);
+        if (count == null){
+            if (request.getDispatcherType() != DispatcherType.REQUEST){
+                return true;
+            }
+            count = new AtomicInteger();
+            request.setAttribute(COUNT, count);
+        }
+        StatementCounter.bind(count);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // the container thread goes back to the pool; the request's work continues elsewhere
+        StatementCounter.unbind();
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        AtomicInteger count = (AtomicInteger) request.getAttribute(COUNT, RequestAttributes.SCOPE_REQUEST);
+        if (count != null){
+            StatementCounter.bind(count);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        StatementCounter.unbind();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        StatementCounter.unbind();
+        AtomicInteger count = (AtomicInteger) request.getAttribute(COUNT);
+        if (count == null){
+            return;
+        }
+        request.removeAttribute(COUNT);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(count.get());
+    }
+}
@@ -0,0 +1,28 @@
+package com.springproject.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StatementCounter implements StatementInspector {
+
+    // the count belongs to the request; whichever thread currently works for it binds it here
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger count = CURRENT.get();
+        if (count != null){
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static void bind(AtomicInteger count){
+        CURRENT.set(count);
+    }
+
+    public static void unbind(){
+        CURRENT.remove();
+    }
+}
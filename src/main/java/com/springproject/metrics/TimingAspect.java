@@ -0,0 +1,59 @@
+package com.springproject.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// outside the cache advice, so cache hits are timed too
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TimingAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public TimingAspect(MeterRegistry meterRegistry){
+        this.meterRegistry = meterRegistry;
+    }
+
+    // the blocking service contracts only: a Mono or Flux returns before any work happens
+    @Around("execution(* com.springproject.services.BookService.*(..))"
+            + " || execution(* com.springproject.services.AuthorService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("service.calls", joinPoint);
+    }
+
+    @Around("execution(* com.springproject.mappers.Mapper+.*(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("mapper.calls", joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getTarget().getClass().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        Timer timer = timers.computeIfAbsent(name + ':' + className + '#' + methodName,
+                key -> Timer.builder(name)
+                        .tag("class", className)
+                        .tag("method", methodName)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.springproject.repositories;
+
+public interface AuthorEstimateRepository {
+
+    long estimateCount();
+}
@@ -0,0 +1,17 @@
+package com.springproject.repositories;
+
+import jakarta.persistence.EntityManager;
+
+public class AuthorEstimateRepositoryImpl implements AuthorEstimateRepository {
+
+    private final EntityManager entityManager;
+
+    public AuthorEstimateRepositoryImpl(EntityManager entityManager){
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public long estimateCount() {
+        return TableEstimates.estimateCount(entityManager, "authors", "AuthorEntity");
+    }
+}
@@ -0,0 +1,10 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.entities.AuthorEntity;
+
+import java.util.Optional;
+
+public interface AuthorPatchRepository {
+
+    Optional<AuthorEntity> patch(Long id, String name, Integer age);
+}
@@ -0,0 +1,51 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.entities.AuthorEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public class AuthorPatchRepositoryImpl implements AuthorPatchRepository {
+
+    static final String POSTGRES_PATCH =
+            "UPDATE authors SET name = COALESCE(:name, name), age = COALESCE(:age, age), version = version + 1 " +
+            "WHERE id = :id RETURNING id, name, age, version";
+
+    // H2 has no RETURNING; FINAL TABLE reads the rows as the UPDATE left them
+    static final String H2_PATCH =
+            "SELECT id, name, age, version FROM FINAL TABLE (" +
+            "UPDATE authors SET name = COALESCE(:name, name), age = COALESCE(:age, age), version = version + 1 " +
+            "WHERE id = :id)";
+
+    private final EntityManager entityManager;
+
+    private String patchSql;
+
+    public AuthorPatchRepositoryImpl(EntityManager entityManager){
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public Optional<AuthorEntity> patch(Long id, String name, Integer age) {
+        List<AuthorEntity> updated = entityManager.createNativeQuery(patchSql(), AuthorEntity.class)
+                .unwrap(NativeQuery.class)
+                .setParameter("id", id, StandardBasicTypes.LONG)
+                .setParameter("name", name, StandardBasicTypes.STRING)
+                .setParameter("age", age, StandardBasicTypes.INTEGER)
+                .getResultList();
+        return updated.stream().findFirst();
+    }
+
+    private String patchSql(){
+        if (patchSql == null){
+            patchSql = Dialects.isH2(entityManager) ? H2_PATCH : POSTGRES_PATCH;
+        }
+        return patchSql;
+    }
+}
@@ -1,9 +1,64 @@
 package com.springproject.repositories;
 
+import com.springproject.domain.dto.AuthorDto;
 import com.springproject.domain.entities.AuthorEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AuthorRepository extends CrudRepository<AuthorEntity, Long>,
-        PagingAndSortingRepository<AuthorEntity, Long> {
+        PagingAndSortingRepository<AuthorEntity, Long>,
+        AuthorPatchRepository,
+        AuthorEstimateRepository {
+
+    @Query(value = "SELECT new com.springproject.domain.dto.AuthorDto(a.id, a.name, a.age) FROM AuthorEntity a",
+            countQuery = "SELECT COUNT(a) FROM AuthorEntity a")
+    Page<AuthorDto> findAllProjectedBy(Pageable pageable);
+
+    @Query("SELECT new com.springproject.domain.dto.AuthorDto(a.id, a.name, a.age) FROM AuthorEntity a")
+    Slice<AuthorDto> findSliceProjectedBy(Pageable pageable);
+
+    @Query("SELECT new com.springproject.domain.dto.AuthorDto(a.id, a.name, a.age) FROM AuthorEntity a WHERE a.id IN :ids")
+    List<AuthorDto> findProjectedByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.version FROM AuthorEntity a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT a FROM AuthorEntity a")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<AuthorEntity> streamAll();
+
+    List<AuthorEntity> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<AuthorEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT a FROM AuthorEntity a ORDER BY a.name ASC NULLS LAST, a.id ASC")
+    List<AuthorEntity> findFirstNameKeyset(Pageable pageable);
+
+    @Query("SELECT a FROM AuthorEntity a " +
+            "WHERE (a.name, a.id) > (:name, :id) AND a.name >= :name " +
+            "ORDER BY a.name ASC, a.id ASC")
+    List<AuthorEntity> findNameKeysetAfter(@Param("name") String name,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    @Query("SELECT a FROM AuthorEntity a WHERE a.name IS NULL AND a.id > :id ORDER BY a.id ASC")
+    List<AuthorEntity> findNullNameKeysetAfter(@Param("id") Long id, Pageable pageable);
+
+    List<AuthorEntity> findByNameIsNullOrderByIdAsc(Pageable pageable);
 }
@@ -0,0 +1,6 @@
+package com.springproject.repositories;
+
+public interface BookEstimateRepository {
+
+    long estimateCount();
+}
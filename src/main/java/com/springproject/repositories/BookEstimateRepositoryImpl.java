@@ -0,0 +1,17 @@
+package com.springproject.repositories;
+
+import jakarta.persistence.EntityManager;
+
+public class BookEstimateRepositoryImpl implements BookEstimateRepository {
+
+    private final EntityManager entityManager;
+
+    public BookEstimateRepositoryImpl(EntityManager entityManager){
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public long estimateCount() {
+        return TableEstimates.estimateCount(entityManager, "books", "BookEntity");
+    }
+}
@@ -0,0 +1,10 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.entities.BookEntity;
+
+import java.util.Optional;
+
+public interface BookPatchRepository {
+
+    Optional<BookEntity> patch(String isbn, String title);
+}
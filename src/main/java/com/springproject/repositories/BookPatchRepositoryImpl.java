@@ -0,0 +1,79 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.domain.entities.BookEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public class BookPatchRepositoryImpl implements BookPatchRepository {
+
+    // the patched row joined with its author, in the column shape of BookView, so the caller needs no second SELECT
+    private static final String PATCHED_VIEW =
+            "SELECT u.isbn, u.title, u.author_id, a.name AS author_name, a.age AS author_age, " +
+            "u.version, a.version AS author_version FROM ";
+
+    // null parameters keep the column as it is, so concurrent patches of different fields never undo each other
+    static final String POSTGRES_PATCH =
+            "WITH u AS (UPDATE books SET title = COALESCE(:title, title), version = version + 1 " +
+            "WHERE isbn = :isbn RETURNING isbn, title, author_id, version) " +
+            PATCHED_VIEW + "u LEFT JOIN authors a ON a.id = u.author_id";
+
+    static final String H2_PATCH =
+            PATCHED_VIEW + "FINAL TABLE (" +
+            "UPDATE books SET title = COALESCE(:title, title), version = version + 1 WHERE isbn = :isbn) u " +
+            "LEFT JOIN authors a ON a.id = u.author_id";
+
+    private final EntityManager entityManager;
+
+    private String patchSql;
+
+    public BookPatchRepositoryImpl(EntityManager entityManager){
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public Optional<BookEntity> patch(String isbn, String title) {
+        List<Object[]> updated = entityManager.createNativeQuery(patchSql())
+                .unwrap(NativeQuery.class)
+                .setParameter("isbn", isbn, StandardBasicTypes.STRING)
+                .setParameter("title", title, StandardBasicTypes.STRING)
+                .addScalar("isbn", StandardBasicTypes.STRING)
+                .addScalar("title", StandardBasicTypes.STRING)
+                .addScalar("author_id", StandardBasicTypes.LONG)
+                .addScalar("author_name", StandardBasicTypes.STRING)
+                .addScalar("author_age", StandardBasicTypes.INTEGER)
+                .addScalar("version", StandardBasicTypes.LONG)
+                .addScalar("author_version", StandardBasicTypes.LONG)
+                .getResultList();
+        return updated.stream().findFirst().map(BookPatchRepositoryImpl::toBook);
+    }
+
+    private static BookEntity toBook(Object[] row){
+        AuthorEntity author = row[2] == null ? null : AuthorEntity.builder()
+                .id((Long) row[2])
+                .name((String) row[3])
+                .age((Integer) row[4])
+                .version((Long) row[6])
+                .build();
+        return BookEntity.builder()
+                .isbn((String) row[0])
+                .title((String) row[1])
+                .authorEntity(author)
+                .version((Long) row[5])
+                .build();
+    }
+
+    private String patchSql(){
+        if (patchSql == null){
+            patchSql = Dialects.isH2(entityManager) ? H2_PATCH : POSTGRES_PATCH;
+        }
+        return patchSql;
+    }
+}
@@ -1,9 +1,81 @@
 package com.springproject.repositories;
 
+import com.springproject.domain.dto.BookDto;
 import com.springproject.domain.entities.BookEntity;
+import com.springproject.domain.projections.BookVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookRepository extends CrudRepository<BookEntity, String>,
-        PagingAndSortingRepository<BookEntity, String> {
+        PagingAndSortingRepository<BookEntity, String>,
+        BookUpsertRepository,
+        BookPatchRepository,
+        BookEstimateRepository {
+
+    // entity pages for BookService.findAll(Pageable); GET /books itself reads the DTO projection below
+    @Override
+    @EntityGraph(attributePaths = "authorEntity")
+    Page<BookEntity> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "authorEntity")
+    Page<BookEntity> findByAuthorEntityId(Long authorId, Pageable pageable);
+
+    @Query(value = "SELECT new com.springproject.domain.dto.BookDto(b.isbn, b.title, a.id, a.name, a.age) " +
+            "FROM BookEntity b LEFT JOIN b.authorEntity a",
+            countQuery = "SELECT COUNT(b) FROM BookEntity b")
+    Page<BookDto> findAllProjectedBy(Pageable pageable);
+
+    @Query("SELECT new com.springproject.domain.dto.BookDto(b.isbn, b.title, a.id, a.name, a.age) " +
+            "FROM BookEntity b LEFT JOIN b.authorEntity a")
+    Slice<BookDto> findSliceProjectedBy(Pageable pageable);
+
+    @Query("SELECT new com.springproject.domain.dto.BookDto(b.isbn, b.title, a.id, a.name, a.age) " +
+            "FROM BookEntity b LEFT JOIN b.authorEntity a WHERE b.isbn IN :isbns")
+    List<BookDto> findProjectedByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    @Query("SELECT b.version AS version, a.version AS authorVersion " +
+            "FROM BookEntity b LEFT JOIN b.authorEntity a WHERE b.isbn = :isbn")
+    Optional<BookVersion> findVersionByIsbn(@Param("isbn") String isbn);
+
+    @Query("SELECT b FROM BookEntity b LEFT JOIN FETCH b.authorEntity")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<BookEntity> streamAll();
+
+    List<BookEntity> findAllByOrderByIsbnAsc(Pageable pageable);
+
+    List<BookEntity> findByIsbnGreaterThanOrderByIsbnAsc(String isbn, Pageable pageable);
+
+    @Query("SELECT b FROM BookEntity b ORDER BY b.title ASC NULLS LAST, b.isbn ASC")
+    List<BookEntity> findFirstTitleKeyset(Pageable pageable);
+
+    // the row comparison is the seek; the redundant bound on the leading column gives a range start
+    // to planners that only derive one from single-column predicates
+    @Query("SELECT b FROM BookEntity b " +
+            "WHERE (b.title, b.isbn) > (:title, :isbn) AND b.title >= :title " +
+            "ORDER BY b.title ASC, b.isbn ASC")
+    List<BookEntity> findTitleKeysetAfter(@Param("title") String title,
+                                          @Param("isbn") String isbn,
+                                          Pageable pageable);
+
+    @Query("SELECT b FROM BookEntity b WHERE b.title IS NULL AND b.isbn > :isbn ORDER BY b.isbn ASC")
+    List<BookEntity> findNullTitleKeysetAfter(@Param("isbn") String isbn, Pageable pageable);
+
+    List<BookEntity> findByTitleIsNullOrderByIsbnAsc(Pageable pageable);
 }
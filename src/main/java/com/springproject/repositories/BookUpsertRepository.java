@@ -0,0 +1,6 @@
+package com.springproject.repositories;
+
+public interface BookUpsertRepository {
+
+    boolean upsert(String isbn, String title, Long authorId);
+}
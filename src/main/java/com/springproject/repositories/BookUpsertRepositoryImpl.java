@@ -0,0 +1,53 @@
+package com.springproject.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.transaction.annotation.Transactional;
+
+public class BookUpsertRepositoryImpl implements BookUpsertRepository {
+
+    // xmax is 0 only for a freshly inserted row version, so the same statement tells created from updated
+    static final String POSTGRES_UPSERT =
+            "INSERT INTO books (isbn, title, author_id, version) VALUES (:isbn, :title, :authorId, 0) " +
+            "ON CONFLICT (isbn) DO UPDATE SET title = EXCLUDED.title, author_id = EXCLUDED.author_id, " +
+            "version = books.version + 1 " +
+            "RETURNING (xmax = 0)";
+
+    // OLD TABLE only yields the rows MERGE replaced, so an empty result means the row was inserted
+    static final String H2_UPSERT =
+            "SELECT COUNT(*) = 0 FROM OLD TABLE (" +
+            "MERGE INTO books USING (SELECT CAST(:isbn AS VARCHAR(255)) AS isbn, " +
+            "CAST(:title AS VARCHAR(255)) AS title, CAST(:authorId AS BIGINT) AS author_id) s " +
+            "ON books.isbn = s.isbn " +
+            "WHEN MATCHED THEN UPDATE SET title = s.title, author_id = s.author_id, version = books.version + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (isbn, title, author_id, version) VALUES (s.isbn, s.title, s.author_id, 0))";
+
+    private final EntityManager entityManager;
+
+    private String upsertSql;
+
+    public BookUpsertRepositoryImpl(EntityManager entityManager){
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    // joins the service transaction; a direct repository call still gets its own instead of an auto-commit write
+    @Transactional
+    public boolean upsert(String isbn, String title, Long authorId) {
+        Object created = entityManager.createNativeQuery(upsertSql())
+                .unwrap(NativeQuery.class)
+                .setParameter("isbn", isbn, StandardBasicTypes.STRING)
+                .setParameter("title", title, StandardBasicTypes.STRING)
+                .setParameter("authorId", authorId, StandardBasicTypes.LONG)
+                .getSingleResult();
+        return Boolean.TRUE.equals(created);
+    }
+
+    private String upsertSql(){
+        if (upsertSql == null){
+            upsertSql = Dialects.isH2(entityManager) ? H2_UPSERT : POSTGRES_UPSERT;
+        }
+        return upsertSql;
+    }
+}
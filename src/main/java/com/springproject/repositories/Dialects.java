@@ -0,0 +1,22 @@
+package com.springproject.repositories;
+
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+final class Dialects {
+
+    private Dialects(){}
+
+    static boolean isH2(EntityManager entityManager){
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof H2Dialect;
+    }
+
+    static boolean isH2(ConnectionFactory connectionFactory){
+        return "H2".equalsIgnoreCase(connectionFactory.getMetadata().getName());
+    }
+}
@@ -0,0 +1,10 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.rows.AuthorRow;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveAuthorPageRepository {
+
+    Flux<AuthorRow> findPage(Sort sort, int limit, long offset);
+}
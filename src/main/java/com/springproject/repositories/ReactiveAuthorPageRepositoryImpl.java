@@ -0,0 +1,30 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.rows.AuthorRow;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+
+public class ReactiveAuthorPageRepositoryImpl implements ReactiveAuthorPageRepository {
+
+    private static final Map<String, String> SORTABLE = Map.of("id", "id", "name", "name", "age", "age");
+
+    private final R2dbcEntityTemplate template;
+
+    public ReactiveAuthorPageRepositoryImpl(R2dbcEntityTemplate template){
+        this.template = template;
+    }
+
+    @Override
+    public Flux<AuthorRow> findPage(Sort sort, int limit, long offset) {
+        return Flux.defer(() -> template.getDatabaseClient()
+                .sql("SELECT id, name, age, version FROM authors"
+                        + ReactiveStatements.orderBy(sort, SORTABLE, "id") + " LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map((row, metadata) -> template.getConverter().read(AuthorRow.class, row, metadata))
+                .all());
+    }
+}
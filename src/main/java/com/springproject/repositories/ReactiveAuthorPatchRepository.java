@@ -0,0 +1,9 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.rows.AuthorRow;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAuthorPatchRepository {
+
+    Mono<AuthorRow> patch(Long id, String name, Integer age);
+}
@@ -0,0 +1,31 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.rows.AuthorRow;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+public class ReactiveAuthorPatchRepositoryImpl implements ReactiveAuthorPatchRepository {
+
+    private final R2dbcEntityTemplate template;
+
+    private final String patchSql;
+
+    public ReactiveAuthorPatchRepositoryImpl(R2dbcEntityTemplate template, ConnectionFactory connectionFactory){
+        this.template = template;
+        this.patchSql = Dialects.isH2(connectionFactory)
+                ? AuthorPatchRepositoryImpl.H2_PATCH
+                : AuthorPatchRepositoryImpl.POSTGRES_PATCH;
+    }
+
+    @Override
+    public Mono<AuthorRow> patch(Long id, String name, Integer age) {
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(patchSql);
+        spec = ReactiveStatements.bind(spec, "id", id, Long.class);
+        spec = ReactiveStatements.bind(spec, "name", name, String.class);
+        spec = ReactiveStatements.bind(spec, "age", age, Integer.class);
+        return spec.map((row, metadata) -> template.getConverter().read(AuthorRow.class, row, metadata))
+                .one();
+    }
+}
@@ -0,0 +1,25 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.rows.AuthorRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAuthorRepository extends R2dbcRepository<AuthorRow, Long>,
+        ReactiveAuthorPatchRepository,
+        ReactiveAuthorPageRepository {
+
+    // shares the JPA id sequence; each NEXTVAL reserves a whole block for Hibernate's pooled optimizer
+    @Query("SELECT NEXTVAL('hibernate_id_seq')")
+    Mono<Long> nextId();
+
+    @Query("SELECT id, name, age, version FROM authors ORDER BY id")
+    Flux<AuthorRow> streamAll();
+
+    @Modifying
+    @Query("UPDATE authors SET name = :name, age = :age, version = version + 1 WHERE id = :id")
+    Mono<Integer> update(@Param("id") Long id, @Param("name") String name, @Param("age") Integer age);
+}
@@ -0,0 +1,12 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.rows.BookView;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveBookPageRepository {
+
+    Flux<BookView> findViewPage(Sort sort, int limit, long offset);
+
+    Flux<BookView> findViewPageByAuthorId(Long authorId, Sort sort, int limit, long offset);
+}
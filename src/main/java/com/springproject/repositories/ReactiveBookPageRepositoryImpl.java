@@ -0,0 +1,45 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.rows.BookView;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+
+public class ReactiveBookPageRepositoryImpl implements ReactiveBookPageRepository {
+
+    private static final Map<String, String> SORTABLE = Map.of("isbn", "b.isbn", "title", "b.title");
+
+    private final R2dbcEntityTemplate template;
+
+    public ReactiveBookPageRepositoryImpl(R2dbcEntityTemplate template){
+        this.template = template;
+    }
+
+    @Override
+    public Flux<BookView> findViewPage(Sort sort, int limit, long offset) {
+        return findViews("", null, sort, limit, offset);
+    }
+
+    @Override
+    public Flux<BookView> findViewPageByAuthorId(Long authorId, Sort sort, int limit, long offset) {
+        return findViews("WHERE b.author_id = :authorId", authorId, sort, limit, offset);
+    }
+
+    private Flux<BookView> findViews(String where, Long authorId, Sort sort, int limit, long offset){
+        return Flux.defer(() -> {
+            DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+                    .sql(ReactiveBookRepository.SELECT_VIEW + where
+                            + ReactiveStatements.orderBy(sort, SORTABLE, "b.isbn") + " LIMIT :limit OFFSET :offset")
+                    .bind("limit", limit)
+                    .bind("offset", offset);
+            if (authorId != null){
+                spec = spec.bind("authorId", authorId);
+            }
+            return spec.map((row, metadata) -> template.getConverter().read(BookView.class, row, metadata))
+                    .all();
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.rows.BookView;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBookPatchRepository {
+
+    Mono<BookView> patch(String isbn, String title);
+}
@@ -0,0 +1,30 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.rows.BookView;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+public class ReactiveBookPatchRepositoryImpl implements ReactiveBookPatchRepository {
+
+    private final R2dbcEntityTemplate template;
+
+    private final String patchSql;
+
+    public ReactiveBookPatchRepositoryImpl(R2dbcEntityTemplate template, ConnectionFactory connectionFactory){
+        this.template = template;
+        this.patchSql = Dialects.isH2(connectionFactory)
+                ? BookPatchRepositoryImpl.H2_PATCH
+                : BookPatchRepositoryImpl.POSTGRES_PATCH;
+    }
+
+    @Override
+    public Mono<BookView> patch(String isbn, String title) {
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(patchSql);
+        spec = ReactiveStatements.bind(spec, "isbn", isbn, String.class);
+        spec = ReactiveStatements.bind(spec, "title", title, String.class);
+        return spec.map((row, metadata) -> template.getConverter().read(BookView.class, row, metadata))
+                .one();
+    }
+}
@@ -0,0 +1,26 @@
+package com.springproject.repositories;
+
+import com.springproject.domain.rows.BookRow;
+import com.springproject.domain.rows.BookView;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBookRepository extends R2dbcRepository<BookRow, String>,
+        ReactiveBookUpsertRepository,
+        ReactiveBookPatchRepository,
+        ReactiveBookPageRepository {
+
+    String SELECT_VIEW = "SELECT b.isbn, b.title, b.author_id, a.name AS author_name, a.age AS author_age, " +
+            "b.version, a.version AS author_version FROM books b LEFT JOIN authors a ON a.id = b.author_id ";
+
+    @Query(SELECT_VIEW + "WHERE b.isbn = :isbn")
+    Mono<BookView> findViewByIsbn(@Param("isbn") String isbn);
+
+    @Query(SELECT_VIEW + "ORDER BY b.isbn")
+    Flux<BookView> streamAllViews();
+
+    Mono<Long> countByAuthorId(Long authorId);
+}
@@ -0,0 +1,8 @@
+package com.springproject.repositories;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBookUpsertRepository {
+
+    Mono<Boolean> upsert(String isbn, String title, Long authorId);
+}
@@ -0,0 +1,29 @@
+package com.springproject.repositories;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+public class ReactiveBookUpsertRepositoryImpl implements ReactiveBookUpsertRepository {
+
+    private final DatabaseClient databaseClient;
+
+    private final String upsertSql;
+
+    public ReactiveBookUpsertRepositoryImpl(DatabaseClient databaseClient, ConnectionFactory connectionFactory){
+        this.databaseClient = databaseClient;
+        this.upsertSql = Dialects.isH2(connectionFactory)
+                ? BookUpsertRepositoryImpl.H2_UPSERT
+                : BookUpsertRepositoryImpl.POSTGRES_UPSERT;
+    }
+
+    @Override
+    public Mono<Boolean> upsert(String isbn, String title, Long authorId) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(upsertSql);
+        spec = ReactiveStatements.bind(spec, "isbn", isbn, String.class);
+        spec = ReactiveStatements.bind(spec, "title", title, String.class);
+        spec = ReactiveStatements.bind(spec, "authorId", authorId, Long.class);
+        return spec.map(row -> Boolean.TRUE.equals(row.get(0, Boolean.class)))
+                .one();
+    }
+}
@@ -0,0 +1,35 @@
+package com.springproject.repositories;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.Map;
+
+final class ReactiveStatements {
+
+    private ReactiveStatements(){}
+
+    // R2DBC drivers need the column type to bind a null
+    static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec,
+                                                  String name, Object value, Class<?> type){
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    // only mapped properties reach the SQL; the key column last keeps offset pages stable under ties
+    static String orderBy(Sort sort, Map<String, String> columns, String keyColumn){
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        boolean keyed = false;
+        for (Sort.Order order : sort){
+            String column = columns.get(order.getProperty());
+            if (column == null){
+                throw new IllegalArgumentException("Unsupported sort " + order.getProperty());
+            }
+            orderBy.append(column).append(order.isAscending() ? " ASC, " : " DESC, ");
+            keyed |= column.equals(keyColumn);
+        }
+        if (!keyed){
+            orderBy.append(keyColumn).append(" ASC, ");
+        }
+        return orderBy.substring(0, orderBy.length() - 2);
+    }
+}
@@ -0,0 +1,28 @@
+package com.springproject.repositories;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+
+final class TableEstimates {
+
+    // the planner's row estimate kept by autovacuum/ANALYZE; -1 until the table has been analyzed once
+    static final String POSTGRES_ESTIMATE =
+            "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE relname = :table AND pg_table_is_visible(oid)";
+
+    private TableEstimates(){}
+
+    static long estimateCount(EntityManager entityManager, String table, String entityName){
+        if (!Dialects.isH2(entityManager)){
+            List<?> estimate = entityManager.createNativeQuery(POSTGRES_ESTIMATE, Long.class)
+                    .setParameter("table", table)
+                    .getResultList();
+            if (!estimate.isEmpty() && ((Number) estimate.get(0)).longValue() >= 0){
+                return ((Number) estimate.get(0)).longValue();
+            }
+        }
+        // H2 keeps no such statistic, and an unanalyzed Postgres table has none yet
+        return entityManager.createQuery("SELECT COUNT(e) FROM " + entityName + " e", Long.class)
+                .getSingleResult();
+    }
+}
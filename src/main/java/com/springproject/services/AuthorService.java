@@ -1,25 +1,46 @@
 package com.springproject.services;
 
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.dto.CursorPage;
+import com.springproject.domain.dto.Lookup;
 import com.springproject.domain.entities.AuthorEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface AuthorService {
 
     AuthorEntity save(AuthorEntity authorEntity);
 
+    List<Long> saveAll(List<AuthorEntity> authorEntities);
+
     List<AuthorEntity> findAll();
 
+    void exportAll(Consumer<AuthorEntity> sink);
+
     Page<AuthorEntity> findAll(Pageable pageable);
 
+    Page<AuthorDto> findAllProjected(Pageable pageable);
+
+    Slice<AuthorDto> findSliceProjected(Pageable pageable);
+
+    Optional<Long> approximateCount();
+
+    CursorPage<AuthorEntity> findAllAfter(String after, int size, String sort);
+
+    Lookup<AuthorDto, Long> lookup(List<Long> ids);
+
     Optional<AuthorEntity> findOne(Long id);
 
+    Optional<Long> findVersion(Long id);
+
     boolean isExist(Long id);
 
-    AuthorEntity partialUpdate(Long id, AuthorEntity authorEntity);
+    Optional<AuthorEntity> partialUpdate(Long id, AuthorEntity authorEntity);
 
     void delete(Long id);
 }
@@ -1,25 +1,49 @@
 package com.springproject.services;
 
+import com.springproject.domain.dto.BookDto;
+import com.springproject.domain.dto.CursorPage;
+import com.springproject.domain.dto.Lookup;
 import com.springproject.domain.entities.BookEntity;
+import com.springproject.domain.projections.BookVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface BookService {
 
     BookEntity createUpdateBook(String isbn, BookEntity book);
 
+    boolean upsert(String isbn, BookEntity book);
+
     List<BookEntity> findAll();
 
+    void exportAll(Consumer<BookEntity> sink);
+
     Page<BookEntity> findAll(Pageable pageable);
 
+    Page<BookDto> findAllProjected(Pageable pageable);
+
+    Slice<BookDto> findSliceProjected(Pageable pageable);
+
+    Optional<Long> approximateCount();
+
+    Page<BookEntity> findAllByAuthor(Long authorId, Pageable pageable);
+
+    CursorPage<BookEntity> findAllAfter(String after, int size, String sort);
+
+    Lookup<BookDto, String> lookup(List<String> isbns);
+
     Optional<BookEntity> findOne(String isbn);
 
+    Optional<BookVersion> findVersion(String isbn);
+
     boolean isExist(String isbn);
 
-    BookEntity partialUpdate(String isbn, BookEntity bookEntity);
+    Optional<BookEntity> partialUpdate(String isbn, BookEntity bookEntity);
 
     void delete(String isbn);
 }
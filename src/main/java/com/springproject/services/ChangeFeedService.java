@@ -0,0 +1,22 @@
+package com.springproject.services;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+public interface ChangeFeedService {
+
+    void bookSaved(String isbn);
+
+    void bookDeleted(String isbn);
+
+    void authorSaved(Long id);
+
+    void authorsSaved(List<Long> ids);
+
+    void authorDeleted(Long id);
+
+    SseEmitter subscribeToBooks(Long lastEventId);
+
+    SseEmitter subscribeToAuthors(Long lastEventId);
+}
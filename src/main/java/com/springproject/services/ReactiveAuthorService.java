@@ -0,0 +1,27 @@
+package com.springproject.services;
+
+import com.springproject.domain.rows.AuthorRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAuthorService {
+
+    Mono<AuthorRow> save(AuthorRow authorRow);
+
+    Mono<Page<AuthorRow>> findAll(Pageable pageable);
+
+    Mono<Slice<AuthorRow>> findSlice(Pageable pageable);
+
+    Flux<AuthorRow> exportAll();
+
+    Mono<AuthorRow> findOne(Long id);
+
+    Mono<Boolean> isExist(Long id);
+
+    Mono<AuthorRow> partialUpdate(Long id, AuthorRow authorRow);
+
+    Mono<Void> delete(Long id);
+}
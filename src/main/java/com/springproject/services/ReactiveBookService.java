@@ -0,0 +1,27 @@
+package com.springproject.services;
+
+import com.springproject.domain.rows.BookView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBookService {
+
+    Mono<Boolean> upsert(String isbn, BookView book);
+
+    Mono<Page<BookView>> findAll(Pageable pageable);
+
+    Mono<Slice<BookView>> findSlice(Pageable pageable);
+
+    Mono<Page<BookView>> findAllByAuthor(Long authorId, Pageable pageable);
+
+    Flux<BookView> exportAll();
+
+    Mono<BookView> findOne(String isbn);
+
+    Mono<BookView> partialUpdate(String isbn, BookView book);
+
+    Mono<Void> delete(String isbn);
+}
@@ -0,0 +1,19 @@
+package com.springproject.services;
+
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.domain.entities.BookEntity;
+
+import java.util.List;
+
+public interface SearchService {
+
+    List<BookEntity> searchBooks(String query, int limit);
+
+    void bookSaved(BookEntity bookEntity);
+
+    void bookDeleted(String isbn);
+
+    void authorSaved(AuthorEntity authorEntity);
+
+    void rebuild();
+}
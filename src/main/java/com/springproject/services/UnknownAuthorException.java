@@ -0,0 +1,8 @@
+package com.springproject.services;
+
+public class UnknownAuthorException extends RuntimeException {
+
+    public UnknownAuthorException(Long authorId, Throwable cause){
+        super("No author with id " + authorId, cause);
+    }
+}
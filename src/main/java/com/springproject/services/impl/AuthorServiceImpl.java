@@ -1,32 +1,125 @@
 package com.springproject.services.impl;
 
+import com.springproject.config.CacheConfig;
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.dto.CursorPage;
+import com.springproject.domain.dto.Lookup;
 import com.springproject.domain.entities.AuthorEntity;
 import com.springproject.repositories.AuthorRepository;
 import com.springproject.services.AuthorService;
+import com.springproject.services.ChangeFeedService;
+import com.springproject.services.SearchService;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 @Service
+@Profile("!reactive")
 public class AuthorServiceImpl implements AuthorService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
     private final AuthorRepository authorRepository;
 
-    public AuthorServiceImpl(AuthorRepository authorRepository){
+    private final EntityManager entityManager;
+
+    private final int batchChunkSize;
+
+    private final SearchService searchService;
+
+    private final ChangeFeedService changeFeedService;
+
+    private final int lookupChunkSize;
+
+    private final int lookupMaxKeys;
+
+    private volatile long approximateCount = -1;
+
+    public AuthorServiceImpl(AuthorRepository authorRepository,
+                             EntityManager entityManager,
+                             @Value("${authors.batch.chunk-size:500}") int batchChunkSize,
+                             SearchService searchService,
+                             ChangeFeedService changeFeedService,
+                             @Value("${lookups.chunk-size:500}") int lookupChunkSize,
+                             @Value("${lookups.max-keys:5000}") int lookupMaxKeys){
         this.authorRepository = authorRepository;
+        this.entityManager = entityManager;
+        this.batchChunkSize = batchChunkSize;
+        this.searchService = searchService;
+        this.changeFeedService = changeFeedService;
+        this.lookupChunkSize = lookupChunkSize;
+        this.lookupMaxKeys = lookupMaxKeys;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.AUTHORS, key = "#result.id"),
+            // books embed their author, so any cached copy may now be stale
+            @CacheEvict(cacheNames = CacheConfig.BOOKS, allEntries = true)
+    })
     public AuthorEntity save(AuthorEntity authorEntity) {
-        return authorRepository.save(authorEntity);
+        if (authorEntity.getId() != null){
+            Optional<AuthorEntity> existingAuthor = authorRepository.findById(authorEntity.getId());
+            if (existingAuthor.isPresent()){
+                // write through the managed row so the update carries the current @Version
+                existingAuthor.get().setName(authorEntity.getName());
+                existingAuthor.get().setAge(authorEntity.getAge());
+                searchService.authorSaved(existingAuthor.get());
+                changeFeedService.authorSaved(existingAuthor.get().getId());
+                return existingAuthor.get();
+            }
+            authorEntity.setId(null);
+        }
+        AuthorEntity savedAuthor = authorRepository.save(authorEntity);
+        changeFeedService.authorSaved(savedAuthor.getId());
+        return savedAuthor;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.AUTHORS, allEntries = true)
+    public List<Long> saveAll(List<AuthorEntity> authorEntities) {
+        List<Long> ids = new ArrayList<>(authorEntities.size());
+        for (int from = 0; from < authorEntities.size(); from += batchChunkSize) {
+            List<AuthorEntity> chunk = authorEntities.subList(from,
+                    Math.min(from + batchChunkSize, authorEntities.size()));
+            for (AuthorEntity authorEntity : chunk) {
+                // always insert: an assigned id would turn persist into a merge SELECT
+                authorEntity.setId(null);
+                entityManager.persist(authorEntity);
+                ids.add(authorEntity.getId());
+            }
+            changeFeedService.authorsSaved(ids.subList(from, ids.size()));
+            // push the chunk out as JDBC batches and keep the persistence context small
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return ids;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AuthorEntity> findAll() {
         return StreamSupport.stream(authorRepository
                         .findAll()
@@ -36,34 +129,161 @@ public class AuthorServiceImpl implements AuthorService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<AuthorEntity> sink) {
+        try (Stream<AuthorEntity> authors = authorRepository.streamAll()) {
+            int exported = 0;
+            for (AuthorEntity author : (Iterable<AuthorEntity>) authors::iterator) {
+                sink.accept(author);
+                // detach what has already been written so the heap stays flat
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0){
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<AuthorEntity> findAll(Pageable pageable) {
         return authorRepository.findAll(pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Page<AuthorDto> findAllProjected(Pageable pageable) {
+        return authorRepository.findAllProjectedBy(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AuthorDto> findSliceProjected(Pageable pageable) {
+        return authorRepository.findSliceProjectedBy(pageable);
+    }
+
+    @Override
+    public Optional<Long> approximateCount() {
+        long count = approximateCount;
+        return count < 0 ? Optional.empty() : Optional.of(count);
+    }
+
+    @Scheduled(initialDelayString = "${approximate-counts.initial-delay:PT10S}",
+            fixedDelayString = "${approximate-counts.refresh-interval:PT1M}")
+    public void refreshApproximateCount() {
+        approximateCount = authorRepository.estimateCount();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<AuthorEntity> findAllAfter(String after, int size, String sort) {
+        if (size < 1){
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        int pageSize = Math.min(size, MAX_CURSOR_PAGE_SIZE);
+        // one extra row tells us whether there is a next page without a COUNT(*)
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        boolean firstPage = after == null || after.isBlank();
+
+        List<AuthorEntity> authors;
+        switch (sort) {
+            case "id" -> {
+                if (firstPage){
+                    authors = authorRepository.findAllByOrderByIdAsc(limit);
+                } else {
+                    String[] keys = KeysetCursor.decode(after, sort, 1);
+                    authors = authorRepository.findByIdGreaterThanOrderByIdAsc(parseId(keys[0]), limit);
+                }
+            }
+            case "name" -> {
+                if (firstPage){
+                    authors = authorRepository.findFirstNameKeyset(limit);
+                } else {
+                    String[] keys = KeysetCursor.decode(after, sort, 2);
+                    Long id = parseId(keys[1]);
+                    if (keys[0] == null){
+                        authors = authorRepository.findNullNameKeysetAfter(id, limit);
+                    } else {
+                        authors = authorRepository.findNameKeysetAfter(keys[0], id, limit);
+                        // the named rows ran out on this page, so it continues into the unnamed tail
+                        if (authors.size() < limit.getPageSize()){
+                            authors = new ArrayList<>(authors);
+                            authors.addAll(authorRepository.findByNameIsNullOrderByIdAsc(
+                                    PageRequest.of(0, limit.getPageSize() - authors.size())));
+                        }
+                    }
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported sort " + sort);
+        }
+
+        String nextCursor = null;
+        if (authors.size() > pageSize){
+            authors = authors.subList(0, pageSize);
+            AuthorEntity last = authors.get(pageSize - 1);
+            nextCursor = sort.equals("name")
+                    ? KeysetCursor.encode(sort, last.getName(), String.valueOf(last.getId()))
+                    : KeysetCursor.encode(sort, String.valueOf(last.getId()));
+        }
+        return new CursorPage<>(authors, authors.size(), nextCursor);
+    }
+
+    private static Long parseId(String key){
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e){
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Lookup<AuthorDto, Long> lookup(List<Long> ids) {
+        return Lookups.byKeys(ids, lookupChunkSize, lookupMaxKeys,
+                authorRepository::findProjectedByIdIn, AuthorDto::getId);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.AUTHORS, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public Optional<AuthorEntity> findOne(Long id) {
         return authorRepository.findById(id);
     }
 
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(Long id) {
+        return authorRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public boolean isExist(Long id) {
         return authorRepository.existsById(id);
     }
 
     @Override
-    public AuthorEntity partialUpdate(Long id, AuthorEntity authorEntity) {
-        authorEntity.setId(id);
-
-        return authorRepository.findById(id).map(existingAuthor ->{
-            Optional.ofNullable(authorEntity.getAge()).ifPresent(existingAuthor::setAge);
-            Optional.ofNullable(authorEntity.getName()).ifPresent(existingAuthor::setName);
-            return authorRepository.save(existingAuthor);
-        }).orElseThrow(() -> new RuntimeException("Author doesn't exist"));
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.AUTHORS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.BOOKS, allEntries = true)
+    })
+    @Transactional
+    public Optional<AuthorEntity> partialUpdate(Long id, AuthorEntity authorEntity) {
+        Optional<AuthorEntity> patchedAuthor = authorRepository.patch(id, authorEntity.getName(), authorEntity.getAge());
+        patchedAuthor.ifPresent(author -> {
+            searchService.authorSaved(author);
+            changeFeedService.authorSaved(id);
+        });
+        return patchedAuthor;
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.AUTHORS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.BOOKS, allEntries = true)
+    })
     public void delete(Long id) {
         authorRepository.deleteById(id);
+        changeFeedService.authorDeleted(id);
     }
 }
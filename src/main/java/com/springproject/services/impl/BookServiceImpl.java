@@ -1,33 +1,152 @@
 package com.springproject.services.impl;
 
+import com.springproject.config.CacheConfig;
+import com.springproject.domain.dto.BookDto;
+import com.springproject.domain.dto.CursorPage;
+import com.springproject.domain.dto.Lookup;
+import com.springproject.domain.entities.AuthorEntity;
 import com.springproject.domain.entities.BookEntity;
+import com.springproject.domain.projections.BookVersion;
 import com.springproject.repositories.BookRepository;
+import com.springproject.services.AuthorService;
 import com.springproject.services.BookService;
+import com.springproject.services.ChangeFeedService;
+import com.springproject.services.SearchService;
+import com.springproject.services.UnknownAuthorException;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 @Service
+@Profile("!reactive")
 public class BookServiceImpl implements BookService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
+    // a nested author that carries only an id links the book and leaves the author row (and its caches) alone
+    private static final String SAVES_AUTHOR =
+            "#book.authorEntity != null && (#book.authorEntity.name != null || #book.authorEntity.age != null)";
+
     private final BookRepository bookRepository;
 
-    public BookServiceImpl(BookRepository bookRepository){
+    private final AuthorService authorService;
+
+    private final EntityManager entityManager;
+
+    private final SearchService searchService;
+
+    private final ChangeFeedService changeFeedService;
+
+    private final int lookupChunkSize;
+
+    private final int lookupMaxKeys;
+
+    private volatile long approximateCount = -1;
+
+    public BookServiceImpl(BookRepository bookRepository,
+                           AuthorService authorService,
+                           EntityManager entityManager,
+                           SearchService searchService,
+                           ChangeFeedService changeFeedService,
+                           @Value("${lookups.chunk-size:500}") int lookupChunkSize,
+                           @Value("${lookups.max-keys:5000}") int lookupMaxKeys){
         this.bookRepository = bookRepository;
+        this.authorService = authorService;
+        this.entityManager = entityManager;
+        this.searchService = searchService;
+        this.changeFeedService = changeFeedService;
+        this.lookupChunkSize = lookupChunkSize;
+        this.lookupMaxKeys = lookupMaxKeys;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#isbn"),
+            @CacheEvict(cacheNames = CacheConfig.BOOKS, allEntries = true, condition = SAVES_AUTHOR),
+            @CacheEvict(cacheNames = CacheConfig.AUTHORS, key = "#book.authorEntity.id", condition = SAVES_AUTHOR)
+    })
     public BookEntity createUpdateBook(String isbn, BookEntity book) {
+        upsert(isbn, book);
+        return book;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#isbn"),
+            @CacheEvict(cacheNames = CacheConfig.BOOKS, allEntries = true, condition = SAVES_AUTHOR),
+            @CacheEvict(cacheNames = CacheConfig.AUTHORS, key = "#book.authorEntity.id", condition = SAVES_AUTHOR)
+    })
+    public boolean upsert(String isbn, BookEntity book) {
         book.setIsbn(isbn);
-        return bookRepository.save(book);
+        AuthorEntity authorEntity = book.getAuthorEntity();
+        if (isReference(authorEntity)){
+            return linkToAuthor(isbn, book, authorEntity.getId());
+        }
+        if (authorEntity != null){
+            // the native upsert bypasses cascading, so keep saving the nested author ourselves
+            authorEntity = authorService.save(authorEntity);
+            book.setAuthorEntity(authorEntity);
+        }
+        boolean created = bookRepository.upsert(isbn, book.getTitle(),
+                authorEntity == null ? null : authorEntity.getId());
+        searchService.bookSaved(book);
+        changeFeedService.bookSaved(isbn);
+        return created;
+    }
+
+    private boolean linkToAuthor(String isbn, BookEntity book, Long authorId){
+        boolean created;
+        try {
+            // no SELECT for the author: the foreign key on author_id is what rejects an unknown id
+            created = bookRepository.upsert(isbn, book.getTitle(), authorId);
+        } catch (DataIntegrityViolationException e){
+            if (!ForeignKeys.isMissingParent(e)){
+                throw e;
+            }
+            throw new UnknownAuthorException(authorId, e);
+        }
+        // an uninitialized reference unless the author is already managed, in which case its name comes for free
+        searchService.bookSaved(BookEntity.builder()
+                .isbn(isbn)
+                .title(book.getTitle())
+                .authorEntity(entityManager.getReference(AuthorEntity.class, authorId))
+                .build());
+        changeFeedService.bookSaved(isbn);
+        return created;
+    }
+
+    private static boolean isReference(AuthorEntity authorEntity){
+        return authorEntity != null
+                && authorEntity.getId() != null
+                && authorEntity.getName() == null
+                && authorEntity.getAge() == null;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookEntity> findAll() {
         return StreamSupport.stream(bookRepository
                         .findAll()
@@ -37,34 +156,161 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<BookEntity> sink) {
+        try (Stream<BookEntity> books = bookRepository.streamAll()) {
+            int exported = 0;
+            for (BookEntity book : (Iterable<BookEntity>) books::iterator) {
+                sink.accept(book);
+                // the cursor keeps going, but rows already written must not pile up in the session
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0){
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<BookEntity> findAll(Pageable pageable){
         return bookRepository.findAll(pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Page<BookDto> findAllProjected(Pageable pageable) {
+        return bookRepository.findAllProjectedBy(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<BookDto> findSliceProjected(Pageable pageable) {
+        return bookRepository.findSliceProjectedBy(pageable);
+    }
+
+    @Override
+    public Optional<Long> approximateCount() {
+        long count = approximateCount;
+        return count < 0 ? Optional.empty() : Optional.of(count);
+    }
+
+    @Scheduled(initialDelayString = "${approximate-counts.initial-delay:PT10S}",
+            fixedDelayString = "${approximate-counts.refresh-interval:PT1M}")
+    public void refreshApproximateCount() {
+        approximateCount = bookRepository.estimateCount();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BookEntity> findAllByAuthor(Long authorId, Pageable pageable) {
+        return bookRepository.findByAuthorEntityId(authorId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookEntity> findAllAfter(String after, int size, String sort) {
+        if (size < 1){
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        int pageSize = Math.min(size, MAX_CURSOR_PAGE_SIZE);
+        // one extra row tells us whether there is a next page without a COUNT(*)
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        boolean firstPage = after == null || after.isBlank();
+
+        List<BookEntity> books;
+        switch (sort) {
+            case "isbn" -> {
+                if (firstPage){
+                    books = bookRepository.findAllByOrderByIsbnAsc(limit);
+                } else {
+                    String[] keys = KeysetCursor.decode(after, sort, 1);
+                    books = bookRepository.findByIsbnGreaterThanOrderByIsbnAsc(requireKey(keys[0]), limit);
+                }
+            }
+            case "title" -> {
+                if (firstPage){
+                    books = bookRepository.findFirstTitleKeyset(limit);
+                } else {
+                    String[] keys = KeysetCursor.decode(after, sort, 2);
+                    String isbn = requireKey(keys[1]);
+                    if (keys[0] == null){
+                        books = bookRepository.findNullTitleKeysetAfter(isbn, limit);
+                    } else {
+                        books = bookRepository.findTitleKeysetAfter(keys[0], isbn, limit);
+                        // the titled rows ran out on this page, so it continues into the untitled tail
+                        if (books.size() < limit.getPageSize()){
+                            books = new ArrayList<>(books);
+                            books.addAll(bookRepository.findByTitleIsNullOrderByIsbnAsc(
+                                    PageRequest.of(0, limit.getPageSize() - books.size())));
+                        }
+                    }
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported sort " + sort);
+        }
+
+        String nextCursor = null;
+        if (books.size() > pageSize){
+            books = books.subList(0, pageSize);
+            BookEntity last = books.get(pageSize - 1);
+            nextCursor = sort.equals("title")
+                    ? KeysetCursor.encode(sort, last.getTitle(), last.getIsbn())
+                    : KeysetCursor.encode(sort, last.getIsbn());
+        }
+        return new CursorPage<>(books, books.size(), nextCursor);
+    }
+
+    private static String requireKey(String key){
+        if (key == null){
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return key;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Lookup<BookDto, String> lookup(List<String> isbns) {
+        return Lookups.byKeys(isbns, lookupChunkSize, lookupMaxKeys,
+                bookRepository::findProjectedByIsbnIn, BookDto::getIsbn);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.BOOKS, key = "#isbn", sync = true)
+    @Transactional(readOnly = true)
     public Optional<BookEntity> findOne(String isbn) {
         return bookRepository.findById(isbn);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<BookVersion> findVersion(String isbn) {
+        return bookRepository.findVersionByIsbn(isbn);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public boolean isExist(String isbn) {
         return bookRepository.existsById(isbn);
     }
 
     @Override
-    public BookEntity partialUpdate(String isbn, BookEntity bookEntity) {
-        bookEntity.setIsbn(isbn);
-        return bookRepository.findById(isbn).map(existingBook -> {
-            Optional.ofNullable(existingBook.getTitle()).ifPresent(existingBook::setTitle);
-            //Optional.ofNullable(existingBook.getAuthorEntity()).ifPresent(existingBook::setAuthorEntity);
-            return bookRepository.save(existingBook);
-        }).orElseThrow(() -> new RuntimeException("Book does not exist"));
-
+    @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#isbn")
+    @Transactional
+    public Optional<BookEntity> partialUpdate(String isbn, BookEntity bookEntity) {
+        Optional<BookEntity> patchedBook = bookRepository.patch(isbn, bookEntity.getTitle());
+        patchedBook.ifPresent(book -> {
+            searchService.bookSaved(book);
+            changeFeedService.bookSaved(isbn);
+        });
+        return patchedBook;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#isbn")
     public void delete(String isbn) {
         bookRepository.deleteById(isbn);
+        searchService.bookDeleted(isbn);
+        changeFeedService.bookDeleted(isbn);
     }
 
 
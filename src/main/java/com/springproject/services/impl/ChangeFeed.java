@@ -0,0 +1,159 @@
+package com.springproject.services.impl;
+
+import com.springproject.domain.dto.ChangeEvent;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The last {@code bufferSize} changes of one entity type, fanned out to SSE subscribers. Appending
+ * never waits on a subscriber: each one drains its own bounded queue on the sender executor.
+ */
+final class ChangeFeed {
+
+    static final String SAVED = "saved";
+
+    static final String DELETED = "deleted";
+
+    // the key is the comma-separated ids of every row the batch saved
+    static final String SAVED_BATCH = "saved-batch";
+
+    static final String RESET = "reset";
+
+    private final ChangeEvent[] ring;
+
+    private final int subscriberBuffer;
+
+    private final long timeoutMillis;
+
+    private final Executor sender;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // id of the newest event, guarded by this; ids start at 1
+    private long lastId;
+
+    ChangeFeed(int bufferSize, int subscriberBuffer, long timeoutMillis, Executor sender){
+        this.ring = new ChangeEvent[bufferSize];
+        this.subscriberBuffer = subscriberBuffer;
+        this.timeoutMillis = timeoutMillis;
+        this.sender = sender;
+    }
+
+    synchronized void append(String type, String key){
+        ChangeEvent event = new ChangeEvent(++lastId, type, key, Instant.now());
+        ring[slot(event.getId())] = event;
+        subscribers.forEach(subscriber -> subscriber.offer(toSse(event)));
+    }
+
+    SseEmitter subscribe(Long lastEventId){
+        return subscribe(new SseEmitter(timeoutMillis), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Long lastEventId){
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        // replay and registration under one lock, so no event is missed or sent twice in between
+        synchronized (this){
+            if (lastEventId != null){
+                long oldestId = Math.max(1, lastId - ring.length + 1);
+                if (lastEventId < oldestId - 1 || lastEventId > lastId){
+                    // fell out of the buffer, or ids from before a restart: the client has to reload
+                    SseEmitter.SseEventBuilder reset = SseEmitter.event().name(RESET).data(lastId);
+                    subscriber.offer(lastId > 0 ? reset.id(Long.toString(lastId)) : reset);
+                } else {
+                    for (long id = lastEventId + 1; id <= lastId; id++){
+                        subscriber.offer(toSse(ring[slot(id)]));
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    void closeAll(){
+        subscribers.forEach(Subscriber::close);
+    }
+
+    private int slot(long id){
+        return (int) (id % ring.length);
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(ChangeEvent event){
+        return SseEmitter.event()
+                .id(Long.toString(event.getId()))
+                .name(event.getType())
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+
+        // room for a full replay on top of the live buffer
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ArrayBlockingQueue<>(ring.length + subscriberBuffer);
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter){
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event){
+            if (closed){
+                return;
+            }
+            if (!pending.offer(event)){
+                // too far behind to keep up; it reconnects with Last-Event-ID and catches up from the ring
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        @Override
+        public void run() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = pending.poll()) != null){
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            // picks up anything offered between the last poll and clearing the flag
+            schedule();
+        }
+
+        void close(){
+            if (closed){
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            // completing may wait behind a send that is stuck on the socket, so never do it on the caller's thread
+            sender.execute(emitter::complete);
+        }
+
+        private void schedule(){
+            if (!closed && !pending.isEmpty() && scheduled.compareAndSet(false, true)){
+                sender.execute(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.springproject.services.impl;
+
+import com.springproject.services.ChangeFeedService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("!reactive")
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    // sends block on slow sockets; virtual threads make one parked sender per lagging client cheap
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ChangeFeed books;
+
+    private final ChangeFeed authors;
+
+    public ChangeFeedServiceImpl(@Value("${change-feed.buffer-size:1024}") int bufferSize,
+                                 @Value("${change-feed.subscriber-buffer:256}") int subscriberBuffer,
+                                 @Value("${change-feed.timeout:PT30M}") Duration timeout){
+        this.books = new ChangeFeed(bufferSize, subscriberBuffer, timeout.toMillis(), sender);
+        this.authors = new ChangeFeed(bufferSize, subscriberBuffer, timeout.toMillis(), sender);
+    }
+
+    @Override
+    public void bookSaved(String isbn) {
+        afterCommit(() -> books.append(ChangeFeed.SAVED, isbn));
+    }
+
+    @Override
+    public void bookDeleted(String isbn) {
+        afterCommit(() -> books.append(ChangeFeed.DELETED, isbn));
+    }
+
+    @Override
+    public void authorSaved(Long id) {
+        afterCommit(() -> authors.append(ChangeFeed.SAVED, id.toString()));
+    }
+
+    // one event for the whole batch: a bulk insert must not push live subscribers out of the ring
+    @Override
+    public void authorsSaved(List<Long> ids) {
+        String keys = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        afterCommit(() -> authors.append(ChangeFeed.SAVED_BATCH, keys));
+    }
+
+    @Override
+    public void authorDeleted(Long id) {
+        afterCommit(() -> authors.append(ChangeFeed.DELETED, id.toString()));
+    }
+
+    @Override
+    public SseEmitter subscribeToBooks(Long lastEventId) {
+        return books.subscribe(lastEventId);
+    }
+
+    @Override
+    public SseEmitter subscribeToAuthors(Long lastEventId) {
+        return authors.subscribe(lastEventId);
+    }
+
+    @PreDestroy
+    public void close() {
+        books.closeAll();
+        authors.closeAll();
+        sender.shutdownNow();
+    }
+
+    private static void afterCommit(Runnable append){
+        if (TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append.run();
+                }
+            });
+        } else {
+            append.run();
+        }
+    }
+}
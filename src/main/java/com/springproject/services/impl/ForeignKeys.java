@@ -0,0 +1,26 @@
+package com.springproject.services.impl;
+
+import io.r2dbc.spi.R2dbcException;
+
+import java.sql.SQLException;
+import java.util.Set;
+
+final class ForeignKeys {
+
+    // Postgres reports a missing parent row as 23503, H2 as 23506
+    private static final Set<String> MISSING_PARENT = Set.of("23503", "23506");
+
+    private ForeignKeys(){}
+
+    static boolean isMissingParent(Throwable failure){
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()){
+            String sqlState = cause instanceof SQLException sqlException ? sqlException.getSQLState()
+                    : cause instanceof R2dbcException r2dbcException ? r2dbcException.getSqlState()
+                    : null;
+            if (sqlState != null && MISSING_PARENT.contains(sqlState)){
+                return true;
+            }
+        }
+        return false;
+    }
+}
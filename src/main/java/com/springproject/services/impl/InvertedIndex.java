@@ -0,0 +1,185 @@
+package com.springproject.services.impl;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+final class InvertedIndex {
+
+    static final double TITLE_WEIGHT = 2.0;
+
+    static final double AUTHOR_WEIGHT = 1.0;
+
+    static final double PREFIX_FACTOR = 0.5;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // token -> isbn -> field weight of the best field the token appears in
+    private final NavigableMap<String, Map<String, Double>> postings = new TreeMap<>();
+
+    private final Map<String, IndexedBook> books = new HashMap<>();
+
+    private final Map<Long, Set<String>> booksByAuthor = new HashMap<>();
+
+    private final Map<Long, String> authorNames = new HashMap<>();
+
+    private record IndexedBook(String title, Long authorId) {}
+
+    static Set<String> tokenize(String text){
+        if (text == null){
+            return Collections.emptySet();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : SEPARATORS.split(normalized)){
+            if (!token.isEmpty()){
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    void putBook(String isbn, String title, Long authorId, String authorName){
+        removeBook(isbn);
+        if (authorId != null){
+            if (authorName != null || !authorNames.containsKey(authorId)){
+                setAuthorName(authorId, authorName);
+            }
+            booksByAuthor.computeIfAbsent(authorId, id -> new HashSet<>()).add(isbn);
+        }
+        books.put(isbn, new IndexedBook(title, authorId));
+        addPostings(isbn);
+    }
+
+    void removeBook(String isbn){
+        IndexedBook book = books.get(isbn);
+        if (book == null){
+            return;
+        }
+        removePostings(isbn);
+        books.remove(isbn);
+        if (book.authorId() != null){
+            Set<String> authored = booksByAuthor.get(book.authorId());
+            authored.remove(isbn);
+            if (authored.isEmpty()){
+                booksByAuthor.remove(book.authorId());
+                authorNames.remove(book.authorId());
+            }
+        }
+    }
+
+    void putAuthor(Long authorId, String name){
+        // only authors with indexed books matter for search
+        if (booksByAuthor.containsKey(authorId)){
+            setAuthorName(authorId, name);
+        }
+    }
+
+    private void setAuthorName(Long authorId, String name){
+        if (authorNames.containsKey(authorId) && Objects.equals(authorNames.get(authorId), name)){
+            return;
+        }
+        Set<String> authored = booksByAuthor.getOrDefault(authorId, Collections.emptySet());
+        authored.forEach(this::removePostings);
+        authorNames.put(authorId, name);
+        authored.forEach(this::addPostings);
+    }
+
+    List<String> search(String query, int limit){
+        Set<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty() || books.isEmpty()){
+            return Collections.emptyList();
+        }
+        Map<String, Double> scores = null;
+        for (String queryToken : queryTokens){
+            Map<String, Double> tokenScores = scoreToken(queryToken);
+            if (scores == null){
+                scores = tokenScores;
+            } else {
+                // every query token has to match somewhere in the book
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((isbn, score) -> score + tokenScores.get(isbn));
+            }
+            if (scores.isEmpty()){
+                return Collections.emptyList();
+            }
+        }
+        List<Map.Entry<String, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<String, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+        return ranked.stream()
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    int size(){
+        return books.size();
+    }
+
+    void clear(){
+        postings.clear();
+        books.clear();
+        booksByAuthor.clear();
+        authorNames.clear();
+    }
+
+    private Map<String, Double> scoreToken(String queryToken){
+        Map<String, Double> tokenScores = new HashMap<>();
+        for (Map.Entry<String, Map<String, Double>> posting
+                : postings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false).entrySet()){
+            double match = posting.getKey().equals(queryToken) ? 1.0 : PREFIX_FACTOR;
+            // rarer tokens say more about a book than common ones
+            double idf = Math.log(1.0 + (double) books.size() / posting.getValue().size());
+            posting.getValue().forEach((isbn, weight) ->
+                    tokenScores.merge(isbn, weight * match * idf, Math::max));
+        }
+        return tokenScores;
+    }
+
+    private Map<String, Double> documentTokens(String isbn){
+        IndexedBook book = books.get(isbn);
+        Map<String, Double> tokens = new HashMap<>();
+        if (book.authorId() != null){
+            for (String token : tokenize(authorNames.get(book.authorId()))){
+                tokens.put(token, AUTHOR_WEIGHT);
+            }
+        }
+        for (String token : tokenize(book.title())){
+            tokens.put(token, TITLE_WEIGHT);
+        }
+        return tokens;
+    }
+
+    private void addPostings(String isbn){
+        documentTokens(isbn).forEach((token, weight) ->
+                postings.computeIfAbsent(token, t -> new HashMap<>()).put(isbn, weight));
+    }
+
+    private void removePostings(String isbn){
+        for (String token : documentTokens(isbn).keySet()){
+            Map<String, Double> posting = postings.get(token);
+            if (posting != null){
+                posting.remove(isbn);
+                if (posting.isEmpty()){
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.springproject.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+final class KeysetCursor {
+
+    private static final String SEPARATOR = "\u0000";
+
+    private static final char VALUE = 'v';
+
+    private static final char NULL = 'n';
+
+    private KeysetCursor(){}
+
+    static String encode(String sort, String... keys){
+        StringBuilder raw = new StringBuilder(sort);
+        for (String key : keys){
+            raw.append(SEPARATOR);
+            if (key == null){
+                raw.append(NULL);
+            } else {
+                raw.append(VALUE).append(key);
+            }
+        }
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decode(String cursor, String sort, int keyCount){
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e){
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        String[] parts = raw.split(SEPARATOR, -1);
+        if (parts.length != keyCount + 1 || !parts[0].equals(sort)){
+            throw new IllegalArgumentException("Cursor does not match sort " + sort);
+        }
+        String[] keys = Arrays.copyOfRange(parts, 1, parts.length);
+        for (int i = 0; i < keys.length; i++){
+            if (keys[i].isEmpty()){
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            keys[i] = keys[i].charAt(0) == NULL ? null : keys[i].substring(1);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,45 @@
+package com.springproject.services.impl;
+
+import com.springproject.domain.dto.Lookup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+final class Lookups {
+
+    private Lookups(){}
+
+    static <T, K> Lookup<T, K> byKeys(List<K> keys,
+                                      int chunkSize,
+                                      int maxKeys,
+                                      Function<List<K>, List<T>> query,
+                                      Function<T, K> keyOf){
+        List<K> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        distinctKeys.removeIf(Objects::isNull);
+        if (distinctKeys.size() > maxKeys){
+            throw new IllegalArgumentException("At most " + maxKeys + " keys per lookup");
+        }
+        Map<K, T> found = new HashMap<>(distinctKeys.size() * 2);
+        // bounded IN lists keep every statement under driver parameter limits and reuse a few cached plans
+        for (int from = 0; from < distinctKeys.size(); from += chunkSize){
+            List<K> chunk = distinctKeys.subList(from, Math.min(from + chunkSize, distinctKeys.size()));
+            query.apply(chunk).forEach(row -> found.put(keyOf.apply(row), row));
+        }
+        List<T> content = new ArrayList<>(found.size());
+        List<K> missing = new ArrayList<>();
+        for (K key : distinctKeys){
+            T row = found.get(key);
+            if (row == null){
+                missing.add(key);
+            } else {
+                content.add(row);
+            }
+        }
+        return new Lookup<>(content, missing);
+    }
+}
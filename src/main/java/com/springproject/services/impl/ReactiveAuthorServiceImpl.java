@@ -0,0 +1,80 @@
+package com.springproject.services.impl;
+
+import com.springproject.domain.rows.AuthorRow;
+import com.springproject.repositories.ReactiveAuthorRepository;
+import com.springproject.services.ReactiveAuthorService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+public class ReactiveAuthorServiceImpl implements ReactiveAuthorService {
+
+    private final ReactiveAuthorRepository authorRepository;
+
+    public ReactiveAuthorServiceImpl(ReactiveAuthorRepository authorRepository){
+        this.authorRepository = authorRepository;
+    }
+
+    @Override
+    public Mono<AuthorRow> save(AuthorRow authorRow) {
+        Mono<AuthorRow> update = authorRow.getId() == null
+                ? Mono.empty()
+                : authorRepository.update(authorRow.getId(), authorRow.getName(), authorRow.getAge())
+                        .filter(updated -> updated > 0)
+                        .flatMap(updated -> authorRepository.findById(authorRow.getId()));
+        // like the servlet service, an unknown id is treated as a new author
+        return update.switchIfEmpty(Mono.defer(() -> authorRepository.nextId()
+                .flatMap(id -> authorRepository.save(AuthorRow.builder()
+                        .id(id)
+                        .name(authorRow.getName())
+                        .age(authorRow.getAge())
+                        .build()))));
+    }
+
+    @Override
+    public Mono<Page<AuthorRow>> findAll(Pageable pageable) {
+        return Mono.zip(
+                authorRepository.findPage(pageable.getSort(), pageable.getPageSize(), pageable.getOffset()).collectList(),
+                authorRepository.count()
+        ).map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()));
+    }
+
+    @Override
+    public Mono<Slice<AuthorRow>> findSlice(Pageable pageable) {
+        return authorRepository.findPage(pageable.getSort(), pageable.getPageSize() + 1, pageable.getOffset())
+                .collectList()
+                .map(rows -> ReactiveSlices.of(rows, pageable));
+    }
+
+    @Override
+    public Flux<AuthorRow> exportAll() {
+        return authorRepository.streamAll();
+    }
+
+    @Override
+    public Mono<AuthorRow> findOne(Long id) {
+        return authorRepository.findById(id);
+    }
+
+    @Override
+    public Mono<Boolean> isExist(Long id) {
+        return authorRepository.existsById(id);
+    }
+
+    @Override
+    public Mono<AuthorRow> partialUpdate(Long id, AuthorRow authorRow) {
+        return authorRepository.patch(id, authorRow.getName(), authorRow.getAge());
+    }
+
+    @Override
+    public Mono<Void> delete(Long id) {
+        return authorRepository.deleteById(id);
+    }
+}
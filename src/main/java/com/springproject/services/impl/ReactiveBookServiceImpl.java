@@ -0,0 +1,105 @@
+package com.springproject.services.impl;
+
+import com.springproject.domain.rows.AuthorRow;
+import com.springproject.domain.rows.BookView;
+import com.springproject.repositories.ReactiveBookRepository;
+import com.springproject.services.ReactiveAuthorService;
+import com.springproject.services.ReactiveBookService;
+import com.springproject.services.UnknownAuthorException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+public class ReactiveBookServiceImpl implements ReactiveBookService {
+
+    private final ReactiveBookRepository bookRepository;
+
+    private final ReactiveAuthorService authorService;
+
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveBookServiceImpl(ReactiveBookRepository bookRepository,
+                                   ReactiveAuthorService authorService,
+                                   TransactionalOperator transactionalOperator){
+        this.bookRepository = bookRepository;
+        this.authorService = authorService;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    @Override
+    public Mono<Boolean> upsert(String isbn, BookView book) {
+        book.setIsbn(isbn);
+        if (book.getAuthorId() == null && book.getAuthorName() == null){
+            return bookRepository.upsert(isbn, book.getTitle(), null);
+        }
+        if (book.getAuthorName() == null && book.getAuthorAge() == null){
+            Long authorId = book.getAuthorId();
+            return bookRepository.upsert(isbn, book.getTitle(), authorId)
+                    .onErrorMap(e -> e instanceof DataIntegrityViolationException && ForeignKeys.isMissingParent(e),
+                            e -> new UnknownAuthorException(authorId, e));
+        }
+        AuthorRow author = AuthorRow.builder()
+                .id(book.getAuthorId())
+                .name(book.getAuthorName())
+                .age(book.getAuthorAge())
+                .build();
+        return authorService.save(author)
+                .flatMap(savedAuthor -> {
+                    book.setAuthorId(savedAuthor.getId());
+                    return bookRepository.upsert(isbn, book.getTitle(), savedAuthor.getId());
+                })
+                .as(transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<Page<BookView>> findAll(Pageable pageable) {
+        return Mono.zip(
+                bookRepository.findViewPage(pageable.getSort(), pageable.getPageSize(), pageable.getOffset()).collectList(),
+                bookRepository.count()
+        ).map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()));
+    }
+
+    @Override
+    public Mono<Slice<BookView>> findSlice(Pageable pageable) {
+        return bookRepository.findViewPage(pageable.getSort(), pageable.getPageSize() + 1, pageable.getOffset())
+                .collectList()
+                .map(views -> ReactiveSlices.of(views, pageable));
+    }
+
+    @Override
+    public Mono<Page<BookView>> findAllByAuthor(Long authorId, Pageable pageable) {
+        return Mono.zip(
+                bookRepository.findViewPageByAuthorId(authorId, pageable.getSort(), pageable.getPageSize(), pageable.getOffset()).collectList(),
+                bookRepository.countByAuthorId(authorId)
+        ).map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()));
+    }
+
+    @Override
+    public Flux<BookView> exportAll() {
+        return bookRepository.streamAllViews();
+    }
+
+    @Override
+    public Mono<BookView> findOne(String isbn) {
+        return bookRepository.findViewByIsbn(isbn);
+    }
+
+    @Override
+    public Mono<BookView> partialUpdate(String isbn, BookView book) {
+        return bookRepository.patch(isbn, book.getTitle());
+    }
+
+    @Override
+    public Mono<Void> delete(String isbn) {
+        return bookRepository.deleteById(isbn);
+    }
+}
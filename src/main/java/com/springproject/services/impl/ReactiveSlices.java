@@ -0,0 +1,19 @@
+package com.springproject.services.impl;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+final class ReactiveSlices {
+
+    private ReactiveSlices(){}
+
+    // rows were fetched with one extra element that only signals whether a next slice exists
+    static <T> Slice<T> of(List<T> rows, Pageable pageable){
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
@@ -0,0 +1,144 @@
+package com.springproject.services.impl;
+
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.domain.entities.BookEntity;
+import com.springproject.repositories.BookRepository;
+import com.springproject.services.SearchService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.java.Log;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+@Service
+@Profile("!reactive")
+@Log
+public class SearchServiceImpl implements SearchService {
+
+    private static final int REBUILD_CLEAR_INTERVAL = 500;
+
+    private final BookRepository bookRepository;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SearchServiceImpl(BookRepository bookRepository,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager){
+        this.bookRepository = bookRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public List<BookEntity> searchBooks(String query, int limit) {
+        List<String> isbns;
+        lock.readLock().lock();
+        try {
+            isbns = index.search(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (isbns.isEmpty()){
+            return List.of();
+        }
+        Map<String, BookEntity> found = new HashMap<>();
+        bookRepository.findAllById(isbns).forEach(book -> found.put(book.getIsbn(), book));
+        // keep the ranking; a book deleted since the lookup simply drops out
+        return isbns.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void bookSaved(BookEntity bookEntity) {
+        String isbn = bookEntity.getIsbn();
+        String title = bookEntity.getTitle();
+        AuthorEntity authorEntity = bookEntity.getAuthorEntity();
+        Long authorId = authorEntity == null ? null : authorEntity.getId();
+        // a reference-only author is not loaded just for the index, which keeps whatever name it already has
+        String authorName = authorEntity == null || !Hibernate.isInitialized(authorEntity) ? null : authorEntity.getName();
+        afterCommit(() -> index.putBook(isbn, title, authorId, authorName));
+    }
+
+    @Override
+    public void bookDeleted(String isbn) {
+        afterCommit(() -> index.removeBook(isbn));
+    }
+
+    @Override
+    public void authorSaved(AuthorEntity authorEntity) {
+        Long authorId = authorEntity.getId();
+        String name = authorEntity.getName();
+        afterCommit(() -> index.putAuthor(authorId, name));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // writes that commit meanwhile wait for the lock and are applied on top of the fresh index
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<BookEntity> books = bookRepository.streamAll()) {
+                    int indexed = 0;
+                    for (BookEntity book : (Iterable<BookEntity>) books::iterator) {
+                        AuthorEntity author = book.getAuthorEntity();
+                        index.putBook(book.getIsbn(), book.getTitle(),
+                                author == null ? null : author.getId(),
+                                author == null ? null : author.getName());
+                        if (++indexed % REBUILD_CLEAR_INTERVAL == 0){
+                            entityManager.clear();
+                        }
+                    }
+                }
+            });
+            log.info("Indexed " + index.size() + " books for search.");
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable update){
+        Runnable locked = () -> {
+            lock.writeLock().lock();
+            try {
+                update.run();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    locked.run();
+                }
+            });
+        } else {
+            locked.run();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.springproject.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveLimitTests {
+
+    private static final long TARGET = Duration.ofMillis(100).toNanos();
+
+    private static final long FAST = TARGET / 10;
+
+    private static final long SLOW = TARGET * 2;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveLimit limit(int initial, int min, int max){
+        return new AdaptiveLimit(new AdmissionProperties.Budget(initial, min, max, Duration.ofNanos(TARGET)), clock::get);
+    }
+
+    private void acquire(AdaptiveLimit limit, int permits){
+        for (int i = 0; i < permits; i++){
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+    }
+
+    @Test
+    public void testThatFastResponsesGrowTheLimitOnlyWhileHalfTheBudgetIsInUse(){
+        AdaptiveLimit limit = limit(10, 1, 100);
+
+        acquire(limit, 4);
+        limit.release(FAST);
+        assertThat(limit.limit()).isEqualTo(10);
+
+        acquire(limit, 3);
+        limit.release(FAST);
+        assertThat(limit.limit()).isEqualTo(11);
+        limit.release(FAST);
+        assertThat(limit.limit()).isEqualTo(11);
+        assertThat(limit.inFlight()).isEqualTo(4);
+    }
+
+    @Test
+    public void testThatSlowResponsesDecreaseAtMostOncePerTargetInterval(){
+        AdaptiveLimit limit = limit(50, 1, 100);
+        acquire(limit, 10);
+
+        clock.addAndGet(TARGET);
+        limit.release(SLOW);
+        assertThat(limit.limit()).isEqualTo(45);
+
+        clock.addAndGet(TARGET - 1);
+        limit.release(SLOW);
+        limit.release(SLOW);
+        assertThat(limit.limit()).isEqualTo(45);
+
+        clock.addAndGet(1);
+        limit.release(SLOW);
+        assertThat(limit.limit()).isEqualTo(40);
+    }
+
+    @Test
+    public void testThatSlowResponsesStopAtTheFloor(){
+        AdaptiveLimit limit = limit(5, 4, 100);
+
+        for (int i = 0; i < 5; i++){
+            acquire(limit, 1);
+            clock.addAndGet(TARGET);
+            limit.release(SLOW);
+        }
+
+        assertThat(limit.limit()).isEqualTo(4);
+    }
+
+    @Test
+    public void testThatFastResponsesStopAtTheCeiling(){
+        AdaptiveLimit limit = limit(8, 1, 10);
+
+        for (int i = 0; i < 5; i++){
+            acquire(limit, limit.limit());
+            while (limit.inFlight() > 0){
+                limit.release(FAST);
+            }
+        }
+
+        assertThat(limit.limit()).isEqualTo(10);
+        acquire(limit, 10);
+        assertThat(limit.tryAcquire()).isFalse();
+    }
+}
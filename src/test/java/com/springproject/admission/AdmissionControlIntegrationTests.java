@@ -0,0 +1,103 @@
+package com.springproject.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springproject.TestDataUtil;
+import com.springproject.domain.entities.BookEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest(properties = {
+        "admission.enabled=true",
+        "admission.read.initial-limit=1",
+        "admission.read.min-limit=1",
+        "admission.read.max-limit=1",
+        "admission.routes.[GET\\ /books/export]=1"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class AdmissionControlIntegrationTests {
+
+    private MockMvc mockMvc;
+
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    public AdmissionControlIntegrationTests(MockMvc mockMvc, ObjectMapper objectMapper){
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+    }
+
+    @Test
+    public void testThatExhaustedReadBudgetReturnsHttp503WhileWritesProceed() throws Exception {
+        // an export holds its read permit until the async dispatch completes
+        MvcResult export = startExport();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.status().isServiceUnavailable()
+        ).andExpect(
+                MockMvcResultMatchers.header().exists(HttpHeaders.RETRY_AFTER)
+        );
+
+        BookEntity bookEntity = TestDataUtil.createTestBookA(null);
+        mockMvc.perform(
+                MockMvcRequestBuilders.put("/books/" + bookEntity.getIsbn())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bookEntity))
+        ).andExpect(
+                MockMvcResultMatchers.status().isCreated()
+        );
+
+        finishExport(export);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        );
+    }
+
+    @Test
+    public void testThatRouteOverItsLimitReturnsHttp429() throws Exception {
+        MvcResult export = startExport();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/export")
+        ).andExpect(
+                MockMvcResultMatchers.status().isTooManyRequests()
+        );
+
+        finishExport(export);
+
+        finishExport(startExport());
+    }
+
+    private MvcResult startExport() throws Exception {
+        return mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/export")
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+    }
+
+    private void finishExport(MvcResult export) throws Exception {
+        export.getAsyncResult();
+        mockMvc.perform(
+                MockMvcRequestBuilders.asyncDispatch(export)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        );
+    }
+}
@@ -0,0 +1,169 @@
+package com.springproject.config;
+
+import com.springproject.TestDataUtil;
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.services.AuthorService;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.hikari.pool-name=primary",
+        "datasource.replica.jdbc-url=jdbc:h2:mem:replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "datasource.replica.username=sa",
+        "datasource.replica.password=password",
+        "datasource.replica.pool-name=replica",
+        "datasource.routing.read-your-writes-window=1h"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class ReplicaRoutingIntegrationTests {
+
+    private AuthorService authorService;
+
+    private MockMvc mockMvc;
+
+    private ReadYourWrites readYourWrites;
+
+    private JdbcTemplate primary;
+
+    private JdbcTemplate replica;
+
+    @Autowired
+    public ReplicaRoutingIntegrationTests(
+            AuthorService authorService,
+            MockMvc mockMvc,
+            ReadYourWrites readYourWrites,
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource){
+        this.authorService = authorService;
+        this.mockMvc = mockMvc;
+        this.readYourWrites = readYourWrites;
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+    }
+
+    @TestConfiguration
+    static class ReplicaSchema {
+
+        // stands in for replication: the replica gets the schema Hibernate generated on the primary
+        @Bean
+        InitializingBean replicaSchemaCopier(
+                EntityManagerFactory entityManagerFactory,
+                @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                @Qualifier("replicaDataSource") DataSource replicaDataSource){
+            return () -> {
+                JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+                new JdbcTemplate(primaryDataSource).queryForList("SCRIPT NODATA", String.class).stream()
+                        .filter(statement -> !statement.startsWith("--"))
+                        .forEach(replica::execute);
+            };
+        }
+    }
+
+    @Test
+    public void testThatReadOnlyCallsAreServedByReplica(){
+        replica.update("INSERT INTO authors (id, name, age, version) VALUES (1, 'REPLICA', 30, 0)");
+
+        Optional<AuthorEntity> result = authorService.findOne(1L);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getName()).isEqualTo("REPLICA");
+        assertThat(authorService.isExist(1L)).isTrue();
+        assertThat(authorService.findAll()).hasSize(1);
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM authors", Long.class)).isZero();
+    }
+
+    @Test
+    public void testThatWritesGoToPrimary(){
+        authorService.save(TestDataUtil.createTestAuthorA());
+
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM authors", Long.class)).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM authors", Long.class)).isZero();
+    }
+
+    @Test
+    public void testThatReadsAfterCommittedWriteAreServedByPrimaryForTheWriter() throws Exception {
+        MvcResult write = mockMvc.perform(
+                MockMvcRequestBuilders.post("/authors")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"PRIMARY\",\"age\":30}")
+        ).andExpect(
+                MockMvcResultMatchers.cookie().exists(ReadYourWrites.COOKIE)
+        ).andReturn();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors")
+                        .cookie(write.getResponse().getCookie(ReadYourWrites.COOKIE))
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content.length()").value(1)
+        );
+    }
+
+    @Test
+    public void testThatUnrelatedWriteDoesNotMoveOtherReadersToPrimary() throws Exception {
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/authors")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"PRIMARY\",\"age\":30}")
+        ).andExpect(
+                MockMvcResultMatchers.status().isCreated()
+        );
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content.length()").value(0)
+        );
+    }
+
+    @Test
+    public void testThatReadOnlyRequestSetsNoCookie() throws Exception {
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors")
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.cookie().doesNotExist(ReadYourWrites.COOKIE)
+        );
+    }
+
+    @Test
+    public void testThatForgedOrFutureLastWriteCookieIsIgnored() throws Exception {
+        authorService.save(TestDataUtil.createTestAuthorA());
+        long now = System.currentTimeMillis();
+        String unsigned = now + ".forged";
+        String future = readYourWrites.cookieValue(now + Duration.ofHours(2).toMillis());
+
+        for (String value : List.of(unsigned, future)) {
+            mockMvc.perform(
+                    MockMvcRequestBuilders.get("/authors")
+                            .cookie(new Cookie(ReadYourWrites.COOKIE, value))
+            ).andExpect(
+                    MockMvcResultMatchers.jsonPath("$.content.length()").value(0)
+            );
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.springproject.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.springproject.TestDataUtil;
 import com.springproject.domain.dto.AuthorDto;
 import com.springproject.domain.entities.AuthorEntity;
@@ -12,9 +15,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @AutoConfigureMockMvc
@@ -64,6 +73,96 @@ public class AuthorControllerIntegrationTests {
                 MockMvcResultMatchers.jsonPath("$.age").value(19)
         );
     }
+    @Test
+    public void testThatCreateAuthorAcceptsAndReturnsCbor() throws Exception {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        AuthorDto authorDto = TestDataUtil.createTestAuthorDtoA();
+        authorDto.setId(null);
+
+        MvcResult result = mockMvc.perform(
+                MockMvcRequestBuilders.post("/authors")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(authorDto))
+        ).andExpect(
+                MockMvcResultMatchers.status().isCreated()
+        ).andExpect(
+                MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_CBOR)
+        ).andReturn();
+
+        AuthorDto savedAuthor = cborMapper.readValue(result.getResponse().getContentAsByteArray(), AuthorDto.class);
+        assertThat(savedAuthor.getId()).isNotNull();
+        assertThat(savedAuthor.getName()).isEqualTo(authorDto.getName());
+    }
+
+    @Test
+    public void testThatListAuthorsNegotiatesSmile() throws Exception {
+        authorService.save(TestDataUtil.createTestAuthorA());
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        MvcResult result = mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors")
+                        .accept(smile)
+        ).andExpect(
+                MockMvcResultMatchers.content().contentType(smile)
+        ).andReturn();
+
+        JsonNode page = new ObjectMapper(new SmileFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertThat(page.get("content").get(0).get("name").asText()).isEqualTo("Kashitsyn Evgeny");
+    }
+
+    @Test
+    public void testThatCreateAuthorsBatchReturnsGeneratedIds() throws Exception {
+        AuthorDto authorDtoA = TestDataUtil.createTestAuthorDtoA();
+        AuthorDto authorDtoB = TestDataUtil.createTestAuthorDtoA();
+        authorDtoB.setName("J. R. R. Tolkien");
+        String authorsJson = objectMapper.writeValueAsString(List.of(authorDtoA, authorDtoB));
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/authors/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(authorsJson)
+        ).andExpect(
+                MockMvcResultMatchers.status().isCreated()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.length()").value(2)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$[0]").isNumber()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$[1]").isNumber()
+        );
+    }
+
+    @Test
+    public void testThatLookupAuthorsKeepsRequestOrderAndReportsMissing() throws Exception {
+        List<Long> ids = authorService.saveAll(List.of(TestDataUtil.createTestAuthorA(), TestDataUtil.createTestAuthorB()));
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors?id=" + ids.get(1) + ",999999," + ids.get(0))
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[0].name").value("J. R. R. Tolkien")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[1].name").value("Kashitsyn Evgeny")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.missing[0]").value(999999)
+        );
+    }
+
+    @Test
+    public void testThatLookupAuthorsByBodyRejectsTooManyIds() throws Exception {
+        List<Long> ids = LongStream.rangeClosed(1, 5001).boxed().toList();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/authors/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids))
+        ).andExpect(
+                MockMvcResultMatchers.status().isBadRequest()
+        );
+    }
+
     @Test
     public void testThatListAuthorsReturnsHttpStatus200() throws Exception {
         mockMvc.perform(
@@ -90,6 +189,98 @@ public class AuthorControllerIntegrationTests {
         );
     }
 
+    @Test
+    public void testThatListAuthorsWithoutCountReturnsLastSlice() throws Exception {
+        authorService.save(TestDataUtil.createTestAuthorA());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors?count=false")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[0].name").value("Kashitsyn Evgeny")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.last").value(true)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist()
+        );
+    }
+
+    @Test
+    public void testThatListAuthorsAfterCursorSeeksByName() throws Exception {
+        authorService.save(TestDataUtil.createTestAuthorA());
+        authorService.save(TestDataUtil.createTestAuthorB());
+        authorService.save(TestDataUtil.createTestAuthorC());
+
+        MvcResult firstPage = mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors?after=&size=2&sort=name")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[0].name").value("J. R. R. Tolkien")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[1].name").value("Kashitsyn Evgeny")
+        ).andReturn();
+        String nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors?size=2&sort=name&after=" + nextCursor)
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content.length()").value(1)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[0].name").value("Lev Tolstoy")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.nextCursor").isEmpty()
+        );
+    }
+
+    @Test
+    public void testThatExportAuthorsStreamsOneJsonLinePerAuthor() throws Exception {
+        authorService.save(TestDataUtil.createTestAuthorA());
+        authorService.save(TestDataUtil.createTestAuthorB());
+        authorService.save(TestDataUtil.createTestAuthorC());
+
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors/export")
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+        mvcResult.getAsyncResult();
+
+        String[] lines = mvcResult.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readValue(lines[0], AuthorDto.class).getName()).isNotBlank();
+    }
+
+    @Test
+    public void testThatAuthorChangesStreamsCreatedAuthor() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors/changes")
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+
+        AuthorEntity savedAuthor = authorService.save(TestDataUtil.createTestAuthorA());
+
+        String stream = SseStreams.awaitContent(mvcResult, "event:saved");
+        assertThat(stream).contains("id:1", "\"key\":\"" + savedAuthor.getId() + "\"");
+    }
+
+    @Test
+    public void testThatAuthorChangesStreamOneEventPerBatchChunk() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors/changes")
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+
+        List<Long> ids = authorService.saveAll(List.of(TestDataUtil.createTestAuthorA(), TestDataUtil.createTestAuthorB()));
+
+        String stream = SseStreams.awaitContent(mvcResult, "event:saved-batch");
+        assertThat(stream).contains("id:1", "\"key\":\"" + ids.get(0) + "," + ids.get(1) + "\"");
+        assertThat(stream).doesNotContain("id:2");
+    }
+
     @Test
     public void testThatGetAuthorReturnsHttpStatus200WhenAuthorExists() throws Exception {
         authorService.save(TestDataUtil.createTestAuthorA());
@@ -101,6 +292,36 @@ public class AuthorControllerIntegrationTests {
         );
     }
 
+    @Test
+    public void testThatGetAuthorReturnsHttpStatus304WhenETagMatches() throws Exception {
+        AuthorEntity savedAuthor = authorService.save(TestDataUtil.createTestAuthorA());
+
+        String eTag = mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors/" + savedAuthor.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.header().exists("ETag")
+        ).andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors/" + savedAuthor.getId())
+                        .header("If-None-Match", eTag)
+        ).andExpect(
+                MockMvcResultMatchers.status().isNotModified()
+        );
+
+        authorService.partialUpdate(savedAuthor.getId(), AuthorEntity.builder().name("UPDATED").build());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors/" + savedAuthor.getId())
+                        .header("If-None-Match", eTag)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.name").value("UPDATED")
+        );
+    }
+
     @Test
     public void testThatGetAuthorReturnsHttpStatus404WhenAuthorNotExists() throws Exception {
         mockMvc.perform(
@@ -1,25 +1,40 @@
 package com.springproject.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.springproject.TestDataUtil;
+import com.springproject.domain.dto.AuthorDto;
 import com.springproject.domain.dto.BookDto;
+import com.springproject.domain.entities.AuthorEntity;
 import com.springproject.domain.entities.BookEntity;
 import com.springproject.services.BookService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 @SpringBootTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @AutoConfigureMockMvc
 public class BookControllerIntegrationTests {
 
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
     private BookService bookService;
 
     private MockMvc mockMvc;
@@ -63,6 +78,68 @@ public class BookControllerIntegrationTests {
         );
     }
 
+    @Test
+    public void testThatCreateBookAcceptsAndReturnsCbor() throws Exception {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        BookDto bookDto = TestDataUtil.createTestBookDtoB(null);
+
+        MvcResult result = mockMvc.perform(
+                MockMvcRequestBuilders.put("/books/" + bookDto.getIsbn())
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(bookDto))
+        ).andExpect(
+                MockMvcResultMatchers.status().isCreated()
+        ).andExpect(
+                MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_CBOR)
+        ).andReturn();
+
+        BookDto savedBook = cborMapper.readValue(result.getResponse().getContentAsByteArray(), BookDto.class);
+        assertThat(savedBook.getIsbn()).isEqualTo(bookDto.getIsbn());
+        assertThat(savedBook.getTitle()).isEqualTo(bookDto.getTitle());
+    }
+
+    @Test
+    public void testThatListBooksNegotiatesSmile() throws Exception {
+        bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(null));
+        bookService.createUpdateBook("9-090-333-00", TestDataUtil.createTestBookB(null));
+        bookService.createUpdateBook("9-111-234-90", TestDataUtil.createTestBookC(null));
+
+        MvcResult result = mockMvc.perform(
+                MockMvcRequestBuilders.get("/books?size=2&sort=isbn")
+                        .accept(SMILE)
+        ).andExpect(
+                MockMvcResultMatchers.content().contentType(SMILE)
+        ).andReturn();
+
+        JsonNode page = new ObjectMapper(new SmileFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertThat(page.get("content")).hasSize(2);
+        assertThat(page.get("content").get(0).get("isbn").asText()).isEqualTo("9-000-567-12");
+        assertThat(page.get("totalElements").asLong()).isEqualTo(3);
+    }
+
+    @Test
+    public void testThatBinaryBookPagesAreSmallerThanJson() throws Exception {
+        IntStream.range(0, 20).forEach(i -> bookService.createUpdateBook("978-" + i,
+                BookEntity.builder().title("Title " + i).build()));
+
+        int json = listBooksPayloadSize(MediaType.APPLICATION_JSON);
+        int cbor = listBooksPayloadSize(MediaType.APPLICATION_CBOR);
+        int smile = listBooksPayloadSize(SMILE);
+
+        assertThat(cbor).isLessThan(json);
+        assertThat(smile).isLessThan(json);
+    }
+
+    private int listBooksPayloadSize(MediaType mediaType) throws Exception {
+        return mockMvc.perform(
+                MockMvcRequestBuilders.get("/books?size=20")
+                        .accept(mediaType)
+        ).andExpect(
+                MockMvcResultMatchers.content().contentTypeCompatibleWith(mediaType)
+        ).andReturn().getResponse().getContentAsByteArray().length;
+    }
+
     @Test
     public void testThatListBooksReturnsHttpStatus200() throws Exception {
         mockMvc.perform(
@@ -89,6 +166,210 @@ public class BookControllerIntegrationTests {
         );
     }
 
+    @Test
+    public void testThatListBooksWithoutCountReturnsSlice() throws Exception {
+        bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(null));
+        bookService.createUpdateBook("9-090-333-00", TestDataUtil.createTestBookB(null));
+        bookService.createUpdateBook("9-111-234-90", TestDataUtil.createTestBookC(null));
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books?count=false&size=2")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content.length()").value(2)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.last").value(false)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist()
+        );
+    }
+
+    @Test
+    public void testThatListBooksAfterCursorSeeksToNextPage() throws Exception {
+        BookEntity bookEntityA = bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(null));
+        BookEntity bookEntityB = bookService.createUpdateBook("9-090-333-00", TestDataUtil.createTestBookB(null));
+        BookEntity bookEntityC = bookService.createUpdateBook("9-111-234-90", TestDataUtil.createTestBookC(null));
+
+        MvcResult firstPage = mockMvc.perform(
+                MockMvcRequestBuilders.get("/books?after=&size=2")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[0].isbn").value(bookEntityA.getIsbn())
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[1].isbn").value(bookEntityB.getIsbn())
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.nextCursor").isString()
+        ).andReturn();
+        String nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books?size=2&after=" + nextCursor)
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content.length()").value(1)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[0].isbn").value(bookEntityC.getIsbn())
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.nextCursor").isEmpty()
+        );
+    }
+
+    @Test
+    public void testThatListBooksAfterMalformedCursorReturnsHttp400() throws Exception {
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books?after=not-a-cursor")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.status().isBadRequest()
+        );
+    }
+
+    @Test
+    public void testThatListAuthorBooksReturnsOnlyThatAuthorsBooks() throws Exception {
+        BookEntity bookEntityA = bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(TestDataUtil.createTestAuthorA()));
+        bookService.createUpdateBook("9-090-333-00", TestDataUtil.createTestBookB(TestDataUtil.createTestAuthorB()));
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors/" + bookEntityA.getAuthorEntity().getId() + "/books")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content.length()").value(1)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[0].isbn").value(bookEntityA.getIsbn())
+        );
+    }
+
+    @Test
+    public void testThatListAuthorBooksReturnsHttp404WhenAuthorNotExists() throws Exception {
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/authors/999/books")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.status().isNotFound()
+        );
+    }
+
+    @Test
+    public void testThatLookupBooksKeepsRequestOrderAndReportsMissing() throws Exception {
+        bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(null));
+        bookService.createUpdateBook("9-090-333-00", TestDataUtil.createTestBookB(TestDataUtil.createTestAuthorB()));
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books?isbn=9-090-333-00,0-000-000-00,9-000-567-12")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content.length()").value(2)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[0].isbn").value("9-090-333-00")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[0].authorEntity.name").value("J. R. R. Tolkien")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[1].isbn").value("9-000-567-12")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.missing[0]").value("0-000-000-00")
+        );
+    }
+
+    @Test
+    public void testThatLookupBooksByBodyAcceptsLongLists() throws Exception {
+        bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(null));
+        List<String> isbns = IntStream.range(0, 1200)
+                .mapToObj(i -> i == 700 ? "9-000-567-12" : "0-" + i)
+                .toList();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/books/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(isbns))
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content.length()").value(1)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.content[0].isbn").value("9-000-567-12")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.missing.length()").value(1199)
+        );
+    }
+
+    @Test
+    public void testThatSearchBooksFindsBooksByTitleAndAuthor() throws Exception {
+        bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(null));
+        bookService.createUpdateBook("9-090-333-00", TestDataUtil.createTestBookB(TestDataUtil.createTestAuthorB()));
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/search?q=tolk")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.length()").value(1)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$[0].isbn").value("9-090-333-00")
+        );
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/search?q=changed every")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$[0].isbn").value("9-000-567-12")
+        );
+    }
+
+    @Test
+    public void testThatExportBooksStreamsOneJsonLinePerBook() throws Exception {
+        bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(null));
+        bookService.createUpdateBook("9-090-333-00", TestDataUtil.createTestBookB(null));
+
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/export")
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+        mvcResult.getAsyncResult();
+
+        String[] lines = mvcResult.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], BookDto.class).getIsbn()).isNotBlank();
+        assertThat(mvcResult.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    @Test
+    public void testThatBookChangesStreamsCommittedWrites() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/changes")
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+
+        bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(null));
+        bookService.delete("9-000-567-12");
+
+        String stream = SseStreams.awaitContent(mvcResult, "event:deleted");
+        assertThat(stream).contains("id:1", "event:saved", "\"key\":\"9-000-567-12\"", "id:2", "event:deleted");
+    }
+
+    @Test
+    public void testThatBookChangesResumeAfterLastEventId() throws Exception {
+        bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(null));
+        bookService.createUpdateBook("9-090-333-00", TestDataUtil.createTestBookB(null));
+
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/changes")
+                        .header("Last-Event-ID", "1")
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+
+        String stream = SseStreams.awaitContent(mvcResult, "id:2");
+        assertThat(stream).contains("9-090-333-00").doesNotContain("9-000-567-12");
+    }
+
     @Test
     public void testThatGetBookReturnsHttpStatus200() throws Exception {
         mockMvc.perform(
@@ -110,6 +391,34 @@ public class BookControllerIntegrationTests {
         );
     }
 
+    @Test
+    public void testThatGetBookReturnsHttpStatus304WhenETagMatches() throws Exception {
+        bookService.createUpdateBook("111-11-111-11", TestDataUtil.createTestBookA(null));
+
+        String eTag = mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/" + "111-11-111-11")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.header().exists("ETag")
+        ).andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/" + "111-11-111-11")
+                        .header("If-None-Match", eTag)
+        ).andExpect(
+                MockMvcResultMatchers.status().isNotModified()
+        );
+
+        bookService.createUpdateBook("111-11-111-11", TestDataUtil.createTestBookB(null));
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/" + "111-11-111-11")
+                        .header("If-None-Match", eTag)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        );
+    }
+
     @Test
     public void testThatGetBookReturnsHttpStatus404WhenBookNotExists() throws Exception {
         mockMvc.perform(
@@ -193,6 +502,58 @@ public class BookControllerIntegrationTests {
         );
     }
 
+    @Test
+    public void testThatPutBookWithAuthorIdOnlyLinksExistingAuthorUnchanged() throws Exception {
+        BookEntity savedBookEntity = bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(TestDataUtil.createTestAuthorA()));
+        Long authorId = savedBookEntity.getAuthorEntity().getId();
+
+        BookDto bookDto = TestDataUtil.createTestBookDtoB(AuthorDto.builder().id(authorId).build());
+        mockMvc.perform(
+                MockMvcRequestBuilders.put("/books/" + bookDto.getIsbn())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bookDto))
+        ).andExpect(
+                MockMvcResultMatchers.status().isCreated()
+        );
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/" + bookDto.getIsbn())
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.authorEntity.id").value(authorId)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.authorEntity.name").value(savedBookEntity.getAuthorEntity().getName())
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.authorEntity.age").value(savedBookEntity.getAuthorEntity().getAge())
+        );
+    }
+
+    @Test
+    public void testThatPutBookWithUnknownAuthorIdReturnsHttp422() throws Exception {
+        BookDto bookDto = TestDataUtil.createTestBookDtoB(AuthorDto.builder().id(999L).build());
+        mockMvc.perform(
+                MockMvcRequestBuilders.put("/books/" + bookDto.getIsbn())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bookDto))
+        ).andExpect(
+                MockMvcResultMatchers.status().isUnprocessableEntity()
+        );
+
+        assertThat(bookService.isExist(bookDto.getIsbn())).isFalse();
+    }
+
+    @Test
+    public void testThatOtherConstraintFailuresAreNotReportedAsUnknownAuthor(){
+        BookEntity savedBook = bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(TestDataUtil.createTestAuthorA()));
+        BookEntity tooLong = BookEntity.builder()
+                .title("x".repeat(300))
+                .authorEntity(AuthorEntity.builder().id(savedBook.getAuthorEntity().getId()).build())
+                .build();
+
+        assertThatThrownBy(() -> bookService.upsert("9-090-333-00", tooLong))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     @Test
     public void testThatPartialUpdateReturnsHttp200() throws Exception {
         BookEntity bookEntity = TestDataUtil.createTestBookB(null);
@@ -252,6 +613,25 @@ public class BookControllerIntegrationTests {
         );
     }
 
+    @Test
+    public void testThatPatchBookUpdatesOnlyTitle() throws Exception {
+        AuthorEntity authorEntity = TestDataUtil.createTestAuthorA();
+        BookEntity bookEntity = TestDataUtil.createTestBookB(authorEntity);
+        BookEntity savedBook = bookService.createUpdateBook(bookEntity.getIsbn(), bookEntity);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/books/" + savedBook.getIsbn())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"UPDATED\"}")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.isbn").value(savedBook.getIsbn())
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.title").value("UPDATED")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.authorEntity.name").value(authorEntity.getName())
+        );
+    }
+
     @Test
     public void testThatDeleteBookReturnsHttp204ForExistingBook() throws Exception {
         BookEntity bookEntity = TestDataUtil.createTestBookA(null);
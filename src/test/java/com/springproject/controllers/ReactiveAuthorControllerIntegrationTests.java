@@ -0,0 +1,208 @@
+package com.springproject.controllers;
+
+import com.springproject.TestDataUtil;
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.rows.AuthorRow;
+import com.springproject.services.ReactiveAuthorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureWebTestClient
+public class ReactiveAuthorControllerIntegrationTests {
+
+    private WebTestClient webTestClient;
+
+    private ReactiveAuthorService authorService;
+
+    @Autowired
+    public ReactiveAuthorControllerIntegrationTests(WebTestClient webTestClient, ReactiveAuthorService authorService){
+        this.webTestClient = webTestClient;
+        this.authorService = authorService;
+    }
+
+    private AuthorRow saveAuthor(){
+        AuthorDto authorDto = TestDataUtil.createTestAuthorDtoA();
+        return authorService.save(AuthorRow.builder()
+                .name(authorDto.getName())
+                .age(authorDto.getAge())
+                .build()).block();
+    }
+
+    @Test
+    public void testThatCreateAuthorReturnsHttp201Created(){
+        AuthorDto authorDto = TestDataUtil.createTestAuthorDtoA();
+        authorDto.setId(null);
+
+        webTestClient.post().uri("/authors")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(authorDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isNumber()
+                .jsonPath("$.name").isEqualTo(authorDto.getName())
+                .jsonPath("$.age").isEqualTo(authorDto.getAge());
+    }
+
+    @Test
+    public void testThatListAuthorsReturnsPageOfAuthors(){
+        saveAuthor();
+
+        webTestClient.get().uri("/authors")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].name").isEqualTo("Kashitsyn Evgeny")
+                .jsonPath("$.totalElements").isEqualTo(1);
+    }
+
+    @Test
+    public void testThatListAuthorsWithoutCountReturnsLastSlice(){
+        saveAuthor();
+
+        webTestClient.get().uri("/authors?count=false")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].name").isEqualTo("Kashitsyn Evgeny")
+                .jsonPath("$.last").isEqualTo(true)
+                .jsonPath("$.totalElements").doesNotExist();
+    }
+
+    @Test
+    public void testThatListAuthorsAppliesRequestedSort(){
+        AuthorRow older = saveAuthor();
+        authorService.partialUpdate(older.getId(), AuthorRow.builder().age(older.getAge() + 10).build()).block();
+        AuthorRow younger = saveAuthor();
+
+        webTestClient.get().uri("/authors?sort=age,desc")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].id").isEqualTo(older.getId())
+                .jsonPath("$.content[1].id").isEqualTo(younger.getId());
+    }
+
+    @Test
+    public void testThatExportAuthorsStreamsEveryAuthor(){
+        saveAuthor();
+        saveAuthor();
+
+        List<AuthorDto> exported = webTestClient.get().uri("/authors/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(AuthorDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(exported).hasSize(2);
+    }
+
+    @Test
+    public void testThatGetAuthorReturnsAuthorWithETag(){
+        AuthorRow savedAuthor = saveAuthor();
+
+        webTestClient.get().uri("/authors/" + savedAuthor.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(savedAuthor.getId())
+                .jsonPath("$.name").isEqualTo(savedAuthor.getName());
+    }
+
+    @Test
+    public void testThatGetAuthorReturnsHttpStatus304WhenETagMatches(){
+        AuthorRow savedAuthor = saveAuthor();
+        String eTag = webTestClient.get().uri("/authors/" + savedAuthor.getId())
+                .exchange()
+                .returnResult(AuthorDto.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get().uri("/authors/" + savedAuthor.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    public void testThatGetAuthorReturnsHttpStatus404WhenAuthorNotExists(){
+        webTestClient.get().uri("/authors/99")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatFullUpdateAuthorReturnsUpdatedAuthor(){
+        AuthorRow savedAuthor = saveAuthor();
+        AuthorDto authorDto = AuthorDto.builder().name("UPDATED").age(42).build();
+
+        webTestClient.put().uri("/authors/" + savedAuthor.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(authorDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(savedAuthor.getId())
+                .jsonPath("$.name").isEqualTo(authorDto.getName());
+    }
+
+    @Test
+    public void testThatFullUpdateAuthorReturnsHttpStatus404WhenAuthorNotExists(){
+        webTestClient.put().uri("/authors/99")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(TestDataUtil.createTestAuthorDtoA())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatPartialUpdateChangesOnlyGivenFields(){
+        AuthorRow savedAuthor = saveAuthor();
+
+        webTestClient.patch().uri("/authors/" + savedAuthor.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"UPDATED\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("UPDATED")
+                .jsonPath("$.age").isEqualTo(savedAuthor.getAge());
+    }
+
+    @Test
+    public void testThatPartialUpdateReturnsHttp404WhenAuthorNotExists(){
+        webTestClient.patch().uri("/authors/99")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"UPDATED\"}")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatDeleteAuthorReturnsHttp204(){
+        AuthorRow savedAuthor = saveAuthor();
+
+        webTestClient.delete().uri("/authors/" + savedAuthor.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+        assertThat(authorService.isExist(savedAuthor.getId()).block()).isFalse();
+    }
+}
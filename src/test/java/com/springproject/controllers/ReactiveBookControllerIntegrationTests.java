@@ -0,0 +1,231 @@
+package com.springproject.controllers;
+
+import com.springproject.TestDataUtil;
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.dto.BookDto;
+import com.springproject.domain.rows.BookView;
+import com.springproject.services.ReactiveBookService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureWebTestClient
+public class ReactiveBookControllerIntegrationTests {
+
+    private WebTestClient webTestClient;
+
+    private ReactiveBookService bookService;
+
+    @Autowired
+    public ReactiveBookControllerIntegrationTests(WebTestClient webTestClient, ReactiveBookService bookService){
+        this.webTestClient = webTestClient;
+        this.bookService = bookService;
+    }
+
+    private BookView saveBook(String isbn, String title, AuthorDto author){
+        BookView book = BookView.builder()
+                .title(title)
+                .authorId(author == null ? null : author.getId())
+                .authorName(author == null ? null : author.getName())
+                .authorAge(author == null ? null : author.getAge())
+                .build();
+        bookService.upsert(isbn, book).block();
+        return book;
+    }
+
+    @Test
+    public void testThatCreateBookReturnsHttp201ThenHttp200(){
+        BookDto bookDto = TestDataUtil.createTestBookDtoB(null);
+
+        webTestClient.put().uri("/books/" + bookDto.getIsbn())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(bookDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.isbn").isEqualTo(bookDto.getIsbn())
+                .jsonPath("$.title").isEqualTo(bookDto.getTitle());
+
+        webTestClient.put().uri("/books/" + bookDto.getIsbn())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(bookDto)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    public void testThatCreateBookWithNewAuthorLinksSavedAuthor(){
+        AuthorDto authorDto = TestDataUtil.createTestAuthorDtoA();
+        authorDto.setId(null);
+        BookDto bookDto = TestDataUtil.createTestBookDtoB(authorDto);
+
+        webTestClient.put().uri("/books/" + bookDto.getIsbn())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(bookDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.authorEntity.id").isNumber()
+                .jsonPath("$.authorEntity.name").isEqualTo(authorDto.getName());
+    }
+
+    @Test
+    public void testThatListBooksReturnsPageOfBooks(){
+        saveBook("9-000-567-12", "The man who changed everything", null);
+
+        webTestClient.get().uri("/books")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].isbn").isEqualTo("9-000-567-12")
+                .jsonPath("$.content[0].authorEntity").isEmpty()
+                .jsonPath("$.totalElements").isEqualTo(1);
+    }
+
+    @Test
+    public void testThatListBooksWithoutCountReturnsSlice(){
+        saveBook("9-000-567-12", "The man who changed everything", null);
+        saveBook("9-090-333-00", "The Lord of the Rings", null);
+        saveBook("9-111-234-90", "War and Peace", null);
+
+        webTestClient.get().uri("/books?count=false&size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.last").isEqualTo(false)
+                .jsonPath("$.totalElements").doesNotExist();
+    }
+
+    @Test
+    public void testThatListBooksAppliesRequestedSort(){
+        saveBook("9-000-567-12", "The man who changed everything", null);
+        saveBook("9-090-333-00", "The Lord of the Rings", null);
+        saveBook("9-111-234-90", "War and Peace", null);
+
+        webTestClient.get().uri("/books?sort=title,desc")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].title").isEqualTo("War and Peace")
+                .jsonPath("$.content[1].title").isEqualTo("The man who changed everything")
+                .jsonPath("$.content[2].title").isEqualTo("The Lord of the Rings");
+    }
+
+    @Test
+    public void testThatListBooksWithUnsupportedSortReturnsHttp400(){
+        webTestClient.get().uri("/books?count=false&sort=version")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testThatListAuthorBooksReturnsOnlyThatAuthorsBooks(){
+        AuthorDto authorDto = TestDataUtil.createTestAuthorDtoA();
+        authorDto.setId(null);
+        BookView authorsBook = saveBook("9-000-567-12", "The man who changed everything", authorDto);
+        saveBook("9-090-333-00", "The Lord of the Rings", null);
+
+        webTestClient.get().uri("/authors/" + authorsBook.getAuthorId() + "/books")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].isbn").isEqualTo("9-000-567-12");
+    }
+
+    @Test
+    public void testThatListAuthorBooksReturnsHttp404WhenAuthorNotExists(){
+        webTestClient.get().uri("/authors/99/books")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatExportBooksStreamsEveryBook(){
+        saveBook("9-000-567-12", "The man who changed everything", null);
+        saveBook("9-090-333-00", "The Lord of the Rings", null);
+
+        List<BookDto> exported = webTestClient.get().uri("/books/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(BookDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(exported).extracting(BookDto::getIsbn).containsExactly("9-000-567-12", "9-090-333-00");
+    }
+
+    @Test
+    public void testThatGetBookReturnsHttp304WhenETagMatches(){
+        saveBook("9-000-567-12", "The man who changed everything", null);
+        String eTag = webTestClient.get().uri("/books/9-000-567-12")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(BookDto.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get().uri("/books/9-000-567-12")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    public void testThatGetBookReturnsHttp404WhenBookNotExists(){
+        webTestClient.get().uri("/books/20")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatPatchBookUpdatesOnlyTitle(){
+        AuthorDto authorDto = TestDataUtil.createTestAuthorDtoA();
+        authorDto.setId(null);
+        saveBook("9-090-333-00", "The Lord of the Rings", authorDto);
+
+        webTestClient.patch().uri("/books/9-090-333-00")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"UPDATED\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("UPDATED")
+                .jsonPath("$.authorEntity.name").isEqualTo(authorDto.getName());
+    }
+
+    @Test
+    public void testThatPatchBookReturnsHttp404WhenBookNotExists(){
+        webTestClient.patch().uri("/books/20")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"UPDATED\"}")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatDeleteBookReturnsHttp204(){
+        saveBook("9-000-567-12", "The man who changed everything", null);
+
+        webTestClient.delete().uri("/books/9-000-567-12")
+                .exchange()
+                .expectStatus().isNoContent();
+        assertThat(bookService.findOne("9-000-567-12").blockOptional()).isEmpty();
+    }
+}
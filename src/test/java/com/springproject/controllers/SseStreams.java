@@ -0,0 +1,21 @@
+package com.springproject.controllers;
+
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.TimeUnit;
+
+final class SseStreams {
+
+    private SseStreams(){}
+
+    // events are sent from the change feed's sender threads, so the body fills in after the commit returns
+    static String awaitContent(MvcResult mvcResult, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = mvcResult.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline){
+            Thread.sleep(10);
+            content = mvcResult.getResponse().getContentAsString();
+        }
+        return content;
+    }
+}
@@ -0,0 +1,76 @@
+package com.springproject.load;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Fills the schema Hibernate created with plain JDBC batches. Rows bypass the service layer,
+ * so caches and the search index only learn about them through later reads and writes.
+ */
+public final class BulkSeeder {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BulkSeeder(DataSource dataSource){
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // authors get ids 1..authors, books get isbns isbn(0)..isbn(books - 1) spread round-robin over them
+    public void seed(int authors, int books){
+        for (int from = 0; from < authors; from += BATCH_SIZE){
+            int offset = from;
+            int size = Math.min(BATCH_SIZE, authors - from);
+            jdbcTemplate.batchUpdate("INSERT INTO authors (id, name, age, version) VALUES (?, ?, ?, 0)",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            long id = offset + i + 1L;
+                            ps.setLong(1, id);
+                            ps.setString(2, "Author " + id);
+                            ps.setInt(3, 20 + (int) (id % 60));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    });
+        }
+        for (int from = 0; from < books; from += BATCH_SIZE){
+            int offset = from;
+            int size = Math.min(BATCH_SIZE, books - from);
+            jdbcTemplate.batchUpdate("INSERT INTO books (isbn, title, author_id, version) VALUES (?, ?, ?, 0)",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            int book = offset + i;
+                            ps.setString(1, isbn(book));
+                            ps.setString(2, "Title " + book);
+                            if (authors == 0){
+                                ps.setNull(3, Types.BIGINT);
+                            } else {
+                                ps.setLong(3, book % authors + 1L);
+                            }
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    });
+        }
+        // keep the pooled id generator clear of the explicit ids above
+        jdbcTemplate.execute("ALTER SEQUENCE hibernate_id_seq RESTART WITH " + (authors + 1_000L));
+    }
+
+    public static String isbn(int book){
+        return String.format("978-%09d", book);
+    }
+}
@@ -0,0 +1,67 @@
+package com.springproject.load;
+
+import com.springproject.SpringProjectApplication;
+import com.springproject.domain.entities.BookEntity;
+import com.springproject.services.BookService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+public class ExecutionModeLoadTests {
+
+    private static final int BOOKS = 1_000;
+
+    private static final int CLIENTS = 400;
+
+    private static final int REQUESTS_PER_CLIENT = 50;
+
+    private static final int POOL_SIZE = 10;
+
+    @Test
+    public void testThatVirtualThreadModeIsComparedWithPlatformThreadMode() throws Exception {
+        LoadReport platform = runWith(false);
+        LoadReport virtual = runWith(true);
+
+        System.out.println(platform);
+        System.out.println(virtual);
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+    }
+
+    private LoadReport runWith(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringProjectApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run()) {
+            BookService bookService = context.getBean(BookService.class);
+            for (int i = 0; i < BOOKS; i++){
+                bookService.createUpdateBook("978-" + i, BookEntity.builder().title("Title " + i).build());
+            }
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            LoadDriver driver = new LoadDriver();
+            // warm up JIT and connection pools before the measured run
+            driver.run(mode, CLIENTS / 4, REQUESTS_PER_CLIENT / 5, i -> listPage(baseUrl, i));
+            return driver.run(mode + "-threads", CLIENTS, REQUESTS_PER_CLIENT, i -> listPage(baseUrl, i));
+        }
+    }
+
+    private static HttpRequest listPage(String baseUrl, int request){
+        int page = request % (BOOKS / 20);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/books?size=20&page=" + page))
+                .GET()
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.springproject.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+public final class LoadDriver {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    // each client sends its requests back to back; the request number lets workloads vary keys deterministically
+    public LoadReport run(String name, int clients, int requestsPerClient, IntFunction<HttpRequest> requests) throws Exception {
+        List<Future<long[]>> results = new ArrayList<>(clients);
+        int[] errors = new int[clients];
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < clients; client++){
+                int clientIndex = client;
+                results.add(executor.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    for (int i = 0; i < requestsPerClient; i++){
+                        HttpRequest request = requests.apply(clientIndex * requestsPerClient + i);
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400){
+                                errors[clientIndex]++;
+                            }
+                        } catch (Exception e){
+                            errors[clientIndex]++;
+                        }
+                        latencies[i] = System.nanoTime() - sent;
+                    }
+                    return latencies;
+                }));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] latencies = new long[clients * requestsPerClient];
+        int offset = 0;
+        for (Future<long[]> result : results){
+            long[] clientLatencies = result.get();
+            System.arraycopy(clientLatencies, 0, latencies, offset, clientLatencies.length);
+            offset += clientLatencies.length;
+        }
+        int totalErrors = 0;
+        for (int clientErrors : errors){
+            totalErrors += clientErrors;
+        }
+        return new LoadReport(name, latencies, totalErrors, elapsed);
+    }
+}
@@ -0,0 +1,34 @@
+package com.springproject.load;
+
+import java.util.Arrays;
+
+public record LoadReport(String name, long[] latenciesNanos, int errors, long elapsedNanos) {
+
+    public LoadReport {
+        latenciesNanos = latenciesNanos.clone();
+        Arrays.sort(latenciesNanos);
+    }
+
+    public int requests(){
+        return latenciesNanos.length;
+    }
+
+    public double throughput(){
+        return requests() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public double percentileMillis(double percentile){
+        if (latenciesNanos.length == 0){
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * latenciesNanos.length) - 1;
+        return latenciesNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    @Override
+    public String toString(){
+        return String.format("%-24s requests=%d errors=%d throughput=%.1f req/s p50=%.2fms p95=%.2fms p99=%.2fms",
+                name, requests(), errors, throughput(),
+                percentileMillis(50), percentileMillis(95), percentileMillis(99));
+    }
+}
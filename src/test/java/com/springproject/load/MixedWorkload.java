@@ -0,0 +1,89 @@
+package com.springproject.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * Request mix over a seeded dataset: mostly point and list reads, with a share of
+ * single-row writes. Each request number maps to the same request on every run.
+ */
+public final class MixedWorkload implements IntFunction<HttpRequest> {
+
+    private static final int MAX_LIST_PAGE = 500;
+
+    private final String baseUrl;
+
+    private final int authors;
+
+    private final int books;
+
+    private final int writePercent;
+
+    private final long seed;
+
+    public MixedWorkload(String baseUrl, int authors, int books, int writePercent, long seed){
+        this.baseUrl = baseUrl;
+        this.authors = authors;
+        this.books = books;
+        this.writePercent = writePercent;
+        this.seed = seed;
+    }
+
+    @Override
+    public HttpRequest apply(int request) {
+        SplittableRandom random = new SplittableRandom(seed + request);
+        int roll = random.nextInt(100);
+        if (roll < writePercent){
+            return write(random);
+        }
+        return read(random);
+    }
+
+    private HttpRequest read(SplittableRandom random){
+        int roll = random.nextInt(100);
+        if (roll < 50){
+            return get("/books/" + BulkSeeder.isbn(random.nextInt(books)));
+        }
+        if (roll < 70){
+            return get("/authors/" + author(random));
+        }
+        if (roll < 85){
+            return get("/authors/" + author(random) + "/books?size=20");
+        }
+        return get("/books?count=false&size=20&page=" + random.nextInt(MAX_LIST_PAGE));
+    }
+
+    private HttpRequest write(SplittableRandom random){
+        int roll = random.nextInt(100);
+        if (roll < 45){
+            return patch("/authors/" + author(random), "{\"age\":" + random.nextInt(20, 80) + "}");
+        }
+        if (roll < 90){
+            return patch("/books/" + BulkSeeder.isbn(random.nextInt(books)),
+                    "{\"title\":\"Retitled " + random.nextInt(1_000_000) + "\"}");
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/authors"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Load Author\",\"age\":40}"))
+                .build();
+    }
+
+    private int author(SplittableRandom random){
+        return random.nextInt(authors) + 1;
+    }
+
+    private HttpRequest get(String path){
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest patch(String path, String json){
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.springproject.load;
+
+import com.springproject.SpringProjectApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sizes and thresholds are system properties so CI and local runs can differ, e.g.
+ * {@code ./gradlew loadTest -Dload.books=5000000 -Dload.max-p99-ms=300}.
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MixedWorkloadLoadTests {
+
+    private static final int AUTHORS = Integer.getInteger("load.authors", 200_000);
+
+    private static final int BOOKS = Integer.getInteger("load.books", 1_000_000);
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 200);
+
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requests-per-client", 100);
+
+    private static final int WRITE_PERCENT = Integer.getInteger("load.write-percent", 10);
+
+    private static final int SOAK_ROUNDS = Integer.getInteger("load.soak-rounds", 5);
+
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.001"));
+
+    private static final double MAX_P99_MILLIS = Double.parseDouble(System.getProperty("load.max-p99-ms", "500"));
+
+    private static final double MIN_THROUGHPUT = Double.parseDouble(System.getProperty("load.min-throughput", "500"));
+
+    // a later soak round may be this much slower than the first before it counts as degradation
+    private static final double MAX_SOAK_SLOWDOWN = Double.parseDouble(System.getProperty("load.max-soak-slowdown", "0.5"));
+
+    private ConfigurableApplicationContext context;
+
+    private String baseUrl;
+
+    private final LoadDriver driver = new LoadDriver();
+
+    @BeforeAll
+    public void startAndSeed(){
+        context = new SpringApplicationBuilder(SpringProjectApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:load-mixed;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+        long start = System.nanoTime();
+        new BulkSeeder(context.getBean(DataSource.class)).seed(AUTHORS, BOOKS);
+        System.out.printf("seeded %d authors and %d books in %.1fs%n",
+                AUTHORS, BOOKS, (System.nanoTime() - start) / 1_000_000_000.0);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    @AfterAll
+    public void stop(){
+        context.close();
+    }
+
+    @Test
+    public void testThatMixedWorkloadMeetsThresholds() throws Exception {
+        // warm up JIT, pools and caches before the measured run
+        driver.run("warmup", CLIENTS / 4, REQUESTS_PER_CLIENT / 5, workload(0));
+        LoadReport report = driver.run("mixed", CLIENTS, REQUESTS_PER_CLIENT, workload(1));
+
+        System.out.println(report);
+        assertMeetsThresholds(report);
+    }
+
+    @Test
+    public void testThatSoakDoesNotDegrade() throws Exception {
+        List<LoadReport> rounds = new ArrayList<>(SOAK_ROUNDS);
+        for (int round = 0; round < SOAK_ROUNDS; round++){
+            LoadReport report = driver.run("soak-" + round, CLIENTS, REQUESTS_PER_CLIENT, workload(100L + round));
+            System.out.println(report);
+            rounds.add(report);
+        }
+
+        rounds.forEach(this::assertMeetsThresholds);
+        double first = rounds.get(0).throughput();
+        for (LoadReport report : rounds.subList(1, rounds.size())){
+            assertThat(report.throughput())
+                    .as("%s throughput relative to the first round", report.name())
+                    .isGreaterThanOrEqualTo(first * (1 - MAX_SOAK_SLOWDOWN));
+        }
+    }
+
+    private MixedWorkload workload(long seed){
+        // distinct seeds per run so the soak rounds don't just replay cached keys
+        return new MixedWorkload(baseUrl, AUTHORS, BOOKS, WRITE_PERCENT, seed * REQUESTS_PER_CLIENT * CLIENTS);
+    }
+
+    private void assertMeetsThresholds(LoadReport report){
+        assertThat((double) report.errors() / report.requests())
+                .as("%s error rate", report.name())
+                .isLessThanOrEqualTo(MAX_ERROR_RATE);
+        assertThat(report.percentileMillis(99))
+                .as("%s p99 latency (ms)", report.name())
+                .isLessThanOrEqualTo(MAX_P99_MILLIS);
+        assertThat(report.throughput())
+                .as("%s throughput (req/s)", report.name())
+                .isGreaterThanOrEqualTo(MIN_THROUGHPUT);
+    }
+}
@@ -0,0 +1,71 @@
+package com.springproject.load;
+
+import com.springproject.SpringProjectApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+public class WebStackLoadTests {
+
+    private static final int AUTHORS = 10_000;
+
+    private static final int BOOKS = 100_000;
+
+    private static final int CLIENTS = 400;
+
+    private static final int REQUESTS_PER_CLIENT = 50;
+
+    private static final String H2_OPTIONS = "MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+
+    @Test
+    public void testThatReactiveStackIsComparedWithServletStack() throws Exception {
+        LoadReport servlet = runWith(false);
+        LoadReport reactive = runWith(true);
+
+        System.out.println(servlet);
+        System.out.println(reactive);
+        assertThat(servlet.errors()).isZero();
+        assertThat(reactive.errors()).isZero();
+    }
+
+    private LoadReport runWith(boolean reactive) throws Exception {
+        String stack = reactive ? "reactive" : "servlet";
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SpringProjectApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:load-" + stack + ";" + H2_OPTIONS,
+                        "spring.r2dbc.url=r2dbc:h2:mem:///load-" + stack + "?options=" + H2_OPTIONS,
+                        "spring.jpa.properties.hibernate.generate_statistics=false");
+        if (reactive){
+            builder.profiles("reactive");
+        }
+        try (ConfigurableApplicationContext context = builder.run()) {
+            new BulkSeeder(context.getBean(DataSource.class)).seed(AUTHORS, BOOKS);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            LoadDriver driver = new LoadDriver();
+            driver.run(stack, CLIENTS / 4, REQUESTS_PER_CLIENT / 5, i -> readBook(baseUrl, i));
+            return driver.run(stack + "-stack", CLIENTS, REQUESTS_PER_CLIENT, i -> readBook(baseUrl, i));
+        }
+    }
+
+    // point reads and count-free pages are the routes both stacks serve the same way
+    private static HttpRequest readBook(String baseUrl, int request){
+        SplittableRandom random = new SplittableRandom(request);
+        String path = random.nextInt(4) == 0
+                ? "/books?count=false&size=20&page=" + random.nextInt(100)
+                : "/books/" + BulkSeeder.isbn(random.nextInt(BOOKS));
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .GET()
+                .build();
+    }
+}
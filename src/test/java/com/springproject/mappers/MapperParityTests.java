@@ -0,0 +1,83 @@
+package com.springproject.mappers;
+
+import com.springproject.TestDataUtil;
+import com.springproject.config.MapperConfig;
+import com.springproject.domain.dto.AuthorDto;
+import com.springproject.domain.dto.BookDto;
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.domain.entities.BookEntity;
+import com.springproject.mappers.impl.AuthorDirectMapperImpl;
+import com.springproject.mappers.impl.AuthorMapperImpl;
+import com.springproject.mappers.impl.BookDirectMapperImpl;
+import com.springproject.mappers.impl.BookMapperImpl;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MapperParityTests {
+
+    private final ModelMapper modelMapper = new MapperConfig().modelMapper();
+
+    private final Mapper<AuthorEntity, AuthorDto> reflectiveAuthorMapper = new AuthorMapperImpl(modelMapper);
+
+    private final Mapper<BookEntity, BookDto> reflectiveBookMapper = new BookMapperImpl(modelMapper);
+
+    private final Mapper<AuthorEntity, AuthorDto> directAuthorMapper = new AuthorDirectMapperImpl();
+
+    private final Mapper<BookEntity, BookDto> directBookMapper = new BookDirectMapperImpl(directAuthorMapper);
+
+    private static List<AuthorEntity> authors(){
+        return List.of(
+                TestDataUtil.createTestAuthorA(),
+                TestDataUtil.createTestAuthorB(),
+                TestDataUtil.createTestAuthorC(),
+                AuthorEntity.builder().name("No id").build(),
+                AuthorEntity.builder().id(7L).build());
+    }
+
+    private static List<BookEntity> books(){
+        return List.of(
+                TestDataUtil.createTestBookA(TestDataUtil.createTestAuthorA()),
+                TestDataUtil.createTestBookB(TestDataUtil.createTestAuthorB()),
+                TestDataUtil.createTestBookC(null),
+                BookEntity.builder().isbn("1-1").build(),
+                BookEntity.builder().title("No isbn").authorEntity(AuthorEntity.builder().name("Only name").build()).build());
+    }
+
+    @Test
+    public void testThatAuthorMapToMatchesModelMapper(){
+        for (AuthorEntity authorEntity : authors()){
+            assertThat(directAuthorMapper.mapTo(authorEntity))
+                    .isEqualTo(reflectiveAuthorMapper.mapTo(authorEntity));
+        }
+    }
+
+    @Test
+    public void testThatAuthorMapFromMatchesModelMapper(){
+        for (AuthorEntity authorEntity : authors()){
+            AuthorDto authorDto = reflectiveAuthorMapper.mapTo(authorEntity);
+            assertThat(directAuthorMapper.mapFrom(authorDto))
+                    .isEqualTo(reflectiveAuthorMapper.mapFrom(authorDto));
+        }
+    }
+
+    @Test
+    public void testThatBookMapToMatchesModelMapper(){
+        for (BookEntity bookEntity : books()){
+            assertThat(directBookMapper.mapTo(bookEntity))
+                    .isEqualTo(reflectiveBookMapper.mapTo(bookEntity));
+        }
+    }
+
+    @Test
+    public void testThatBookMapFromMatchesModelMapper(){
+        for (BookEntity bookEntity : books()){
+            BookDto bookDto = reflectiveBookMapper.mapTo(bookEntity);
+            assertThat(directBookMapper.mapFrom(bookDto))
+                    .isEqualTo(reflectiveBookMapper.mapFrom(bookDto));
+        }
+    }
+}
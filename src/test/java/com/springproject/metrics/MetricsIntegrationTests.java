@@ -0,0 +1,111 @@
+package com.springproject.metrics;
+
+import com.springproject.TestDataUtil;
+import com.springproject.services.BookService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsIntegrationTests {
+
+    private MockMvc mockMvc;
+
+    private BookService bookService;
+
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    public MetricsIntegrationTests(MockMvc mockMvc, BookService bookService, MeterRegistry meterRegistry){
+        this.mockMvc = mockMvc;
+        this.bookService = bookService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Test
+    public void testThatPrometheusEndpointExposesServiceMapperAndStatementMetrics() throws Exception {
+        bookService.createUpdateBook("111-11-111-11", TestDataUtil.createTestBookA(null));
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/111-11-111-11")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        );
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/actuator/prometheus")
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.content().string(containsString("service_calls_seconds_count{class=\"BookServiceImpl\",method=\"findOne\""))
+        ).andExpect(
+                MockMvcResultMatchers.content().string(containsString("mapper_calls_seconds_count{class=\"BookDirectMapperImpl\",method=\"mapTo\""))
+        ).andExpect(
+                MockMvcResultMatchers.content().string(containsString("http_server_requests_db_statements_count{method=\"GET\",uri=\"/books/{isbn}\""))
+        ).andExpect(
+                MockMvcResultMatchers.content().string(containsString("hikaricp_connections_acquire_seconds"))
+        );
+    }
+
+    @Test
+    public void testThatCacheHitsAreTimedAndOtherServicesAreNot(){
+        bookService.createUpdateBook("111-11-111-11", TestDataUtil.createTestBookA(null));
+        bookService.findOne("111-11-111-11");
+        bookService.findOne("111-11-111-11");
+
+        Timer findOne = meterRegistry.get("service.calls")
+                .tag("class", "BookServiceImpl")
+                .tag("method", "findOne")
+                .timer();
+        assertThat(findOne.count()).isEqualTo(2);
+        assertThat(meterRegistry.find("service.calls").tag("class", "ChangeFeedServiceImpl").timers()).isEmpty();
+    }
+
+    @Test
+    public void testThatStreamedExportCountsItsOwnStatementsOnEveryRequest() throws Exception {
+        bookService.createUpdateBook("111-11-111-11", TestDataUtil.createTestBookA(TestDataUtil.createTestAuthorA()));
+
+        export();
+        DistributionSummary statements = meterRegistry.get("http.server.requests.db.statements")
+                .tag("uri", "/books/export")
+                .summary();
+        double firstExport = statements.totalAmount();
+        export();
+
+        // the query runs on the async executor, and nothing carries over from one export to the next
+        assertThat(firstExport).isGreaterThanOrEqualTo(1);
+        assertThat(statements.count()).isEqualTo(2);
+        assertThat(statements.totalAmount()).isEqualTo(2 * firstExport);
+    }
+
+    private void export() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/books/export")
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+        mvcResult.getAsyncResult();
+        mockMvc.perform(
+                MockMvcRequestBuilders.asyncDispatch(mvcResult)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        );
+    }
+}
@@ -1,25 +1,33 @@
 package com.springproject.repositories;
 
 import com.springproject.TestDataUtil;
+import com.springproject.domain.dto.AuthorDto;
 import com.springproject.domain.entities.AuthorEntity;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = CapturedStatements.PROPERTY)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 public class AuthorRepositoryIntegrationTests {
 
     private AuthorRepository underTest;
 
+    private EntityManager entityManager;
+
     @Autowired
-    public AuthorRepositoryIntegrationTests(AuthorRepository underTest){
+    public AuthorRepositoryIntegrationTests(AuthorRepository underTest, EntityManager entityManager){
         this.underTest = underTest;
+        this.entityManager = entityManager;
     }
 
     @Test
@@ -69,4 +77,38 @@ public class AuthorRepositoryIntegrationTests {
         Optional<AuthorEntity> result = underTest.findById(authorEntity.getId());
         assertThat(result).isEmpty();
     }
+
+    @Test
+    public void testThatAuthorsCanBeListedAsDtoProjections(){
+        AuthorEntity authorEntityA = TestDataUtil.createTestAuthorA();
+        underTest.save(authorEntityA);
+        AuthorEntity authorEntityB = TestDataUtil.createTestAuthorB();
+        underTest.save(authorEntityB);
+
+        Page<AuthorDto> result = underTest.findAllProjectedBy(PageRequest.of(0, 10, Sort.by("id")));
+
+        assertThat(result.getContent())
+                .extracting(AuthorDto::getName)
+                .containsExactly(authorEntityA.getName(), authorEntityB.getName());
+    }
+
+    @Test
+    public void testThatNameKeysetSeekIsAnIndexRange(){
+        underTest.save(TestDataUtil.createTestAuthorA());
+        CapturedStatements.clear();
+
+        underTest.findNameKeysetAfter("Tolkien", 2L, PageRequest.of(0, 10));
+
+        // placeholders in order: name, id, name, then the row limit
+        String plan = CapturedStatements.explain(entityManager, CapturedStatements.last(), "Tolkien", 2L, "Tolkien", 10);
+        assertThat(plan).contains("idx_authors_name_id: name >=");
+    }
+
+    @Test
+    public void testThatEstimateCountFallsBackToExactCountOnH2(){
+        underTest.save(TestDataUtil.createTestAuthorA());
+        underTest.save(TestDataUtil.createTestAuthorB());
+
+        assertThat(underTest.estimateCount()).isEqualTo(2);
+    }
 }
@@ -1,28 +1,37 @@
 package com.springproject.repositories;
 
 import com.springproject.TestDataUtil;
+import com.springproject.domain.dto.BookDto;
 import com.springproject.domain.entities.AuthorEntity;
 import com.springproject.domain.entities.BookEntity;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = CapturedStatements.PROPERTY)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 public class BookEntityRepositoryIntegrationTests {
 
 
     private BookRepository underTest;
 
+    private EntityManager entityManager;
+
     @Autowired
-    public BookEntityRepositoryIntegrationTests(BookRepository underTest){
+    public BookEntityRepositoryIntegrationTests(BookRepository underTest, EntityManager entityManager){
         this.underTest = underTest;
+        this.entityManager = entityManager;
     }
 
     @Test
@@ -84,4 +93,60 @@ public class BookEntityRepositoryIntegrationTests {
         Optional<BookEntity> result = underTest.findById(bookEntity.getIsbn());
         assertThat(result).isEmpty();
     }
+
+    @Test
+    public void testThatUpsertReportsCreatedThenUpdated(){
+        BookEntity bookEntity = TestDataUtil.createTestBookA(null);
+
+        boolean created = underTest.upsert(bookEntity.getIsbn(), bookEntity.getTitle(), null);
+        boolean createdAgain = underTest.upsert(bookEntity.getIsbn(), "UPDATED", null);
+
+        assertThat(created).isTrue();
+        assertThat(createdAgain).isFalse();
+        Optional<BookEntity> result = underTest.findById(bookEntity.getIsbn());
+        assertThat(result).isPresent();
+        assertThat(result.get().getTitle()).isEqualTo("UPDATED");
+    }
+
+    @Test
+    public void testThatBooksCanBeListedAsDtoProjections(){
+        AuthorEntity authorEntityA = TestDataUtil.createTestAuthorA();
+        BookEntity bookEntityA = TestDataUtil.createTestBookA(authorEntityA);
+        underTest.save(bookEntityA);
+        BookEntity bookEntityC = TestDataUtil.createTestBookC(null);
+        underTest.save(bookEntityC);
+
+        Page<BookDto> result = underTest.findAllProjectedBy(PageRequest.of(0, 10, Sort.by("isbn")));
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent().get(0).getIsbn()).isEqualTo(bookEntityA.getIsbn());
+        assertThat(result.getContent().get(0).getAuthorEntity().getName()).isEqualTo(authorEntityA.getName());
+        assertThat(result.getContent().get(1).getIsbn()).isEqualTo(bookEntityC.getIsbn());
+        assertThat(result.getContent().get(1).getAuthorEntity()).isNull();
+    }
+
+    @Test
+    public void testThatTitleKeysetSeeksPastTheCursorAndLeavesTheUntitledTail(){
+        underTest.upsert("1", "Alpha", null);
+        underTest.upsert("2", "Beta", null);
+        underTest.upsert("3", "Beta", null);
+        underTest.upsert("4", "Gamma", null);
+        underTest.upsert("5", null, null);
+
+        List<BookEntity> result = underTest.findTitleKeysetAfter("Beta", "2", PageRequest.of(0, 10));
+
+        assertThat(result).extracting(BookEntity::getIsbn).containsExactly("3", "4");
+    }
+
+    @Test
+    public void testThatTitleKeysetSeekIsAnIndexRange(){
+        underTest.upsert("1", "Alpha", null);
+        CapturedStatements.clear();
+
+        underTest.findTitleKeysetAfter("Beta", "2", PageRequest.of(0, 10));
+
+        // placeholders in order: title, isbn, title, then the row limit
+        String plan = CapturedStatements.explain(entityManager, CapturedStatements.last(), "Beta", "2", "Beta", 10);
+        assertThat(plan).contains("idx_books_title_isbn: title >=");
+    }
 }
@@ -0,0 +1,52 @@
+package com.springproject.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registered through {@code hibernate.session_factory.statement_inspector}, so tests can look at the
+ * SQL Hibernate actually sends for a repository method instead of a hand-written copy of it.
+ */
+public class CapturedStatements implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.springproject.repositories.CapturedStatements";
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    static void clear(){
+        STATEMENTS.clear();
+    }
+
+    static String last(){
+        return STATEMENTS.get(STATEMENTS.size() - 1);
+    }
+
+    // binds the given values to the statement's placeholders in order and returns H2's plan text
+    static String explain(EntityManager entityManager, String sql, Object... parameters){
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                int count = explain.getParameterMetaData().getParameterCount();
+                for (int i = 0; i < count; i++){
+                    explain.setObject(i + 1, parameters[Math.min(i, parameters.length - 1)]);
+                }
+                try (ResultSet plan = explain.executeQuery()) {
+                    plan.next();
+                    return plan.getString(1).toLowerCase();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.springproject.services;
+
+import com.springproject.TestDataUtil;
+import com.springproject.domain.entities.AuthorEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class AuthorPartialUpdateConcurrencyIntegrationTests {
+
+    private static final int ROUNDS = 200;
+
+    private AuthorService authorService;
+
+    @Autowired
+    public AuthorPartialUpdateConcurrencyIntegrationTests(AuthorService authorService){
+        this.authorService = authorService;
+    }
+
+    @Test
+    public void testThatConcurrentPatchesOfDifferentFieldsAreNotLost() throws Exception {
+        AuthorEntity savedAuthor = authorService.save(TestDataUtil.createTestAuthorA());
+        Long id = savedAuthor.getId();
+        long initialVersion = authorService.findVersion(id).orElseThrow();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                String name = "NAME-" + round;
+                int age = 20 + round;
+                CyclicBarrier barrier = new CyclicBarrier(2);
+
+                CompletableFuture<Optional<AuthorEntity>> namePatch = CompletableFuture.supplyAsync(() -> {
+                    await(barrier);
+                    return authorService.partialUpdate(id, AuthorEntity.builder().name(name).build());
+                }, executor);
+                CompletableFuture<Optional<AuthorEntity>> agePatch = CompletableFuture.supplyAsync(() -> {
+                    await(barrier);
+                    return authorService.partialUpdate(id, AuthorEntity.builder().age(age).build());
+                }, executor);
+
+                assertThat(namePatch.get()).isPresent();
+                assertThat(agePatch.get()).isPresent();
+
+                Optional<AuthorEntity> result = authorService.findOne(id);
+                assertThat(result).isPresent();
+                assertThat(result.get().getName()).isEqualTo(name);
+                assertThat(result.get().getAge()).isEqualTo(age);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(authorService.findVersion(id)).contains(initialVersion + 2L * ROUNDS);
+    }
+
+    @Test
+    public void testThatPartialUpdateOfMissingAuthorReturnsEmpty(){
+        assertThat(authorService.partialUpdate(999L, AuthorEntity.builder().name("UPDATED").build())).isEmpty();
+    }
+
+    private static void await(CyclicBarrier barrier){
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
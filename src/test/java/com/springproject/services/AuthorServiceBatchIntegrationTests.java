@@ -0,0 +1,65 @@
+package com.springproject.services;
+
+import com.springproject.domain.entities.AuthorEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class AuthorServiceBatchIntegrationTests {
+
+    private static final int AUTHORS = 10_000;
+
+    private AuthorService underTest;
+
+    private Statistics statistics;
+
+    @Autowired
+    public AuthorServiceBatchIntegrationTests(AuthorService underTest, EntityManagerFactory entityManagerFactory){
+        this.underTest = underTest;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void testThatSaveAllReturnsIdForEveryAuthor(){
+        List<Long> ids = underTest.saveAll(authors(3));
+
+        assertThat(ids)
+                .hasSize(3)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates();
+        assertThat(underTest.findAll()).hasSize(3);
+    }
+
+    @Test
+    public void testThatSaveAllBatchesStatementsPer10kAuthors(){
+        List<AuthorEntity> authors = authors(AUTHORS);
+        statistics.clear();
+
+        underTest.saveAll(authors);
+
+        long statements = statistics.getPrepareStatementCount();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(AUTHORS);
+        // one sequence call per 50 ids and one JDBC batch per 50 inserts
+        assertThat(statements).isLessThanOrEqualTo(AUTHORS / 50 * 2 + 10);
+    }
+
+    private static List<AuthorEntity> authors(int count){
+        return IntStream.range(0, count)
+                .mapToObj(i -> AuthorEntity.builder()
+                        .name("Author " + i)
+                        .age(20 + i % 60)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,97 @@
+package com.springproject.services;
+
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.domain.entities.BookEntity;
+import com.springproject.repositories.BookRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class BookServiceStatementCountIntegrationTests {
+
+    private static final int PAGE_SIZE = 100;
+
+    private BookService underTest;
+
+    private AuthorService authorService;
+
+    private BookRepository bookRepository;
+
+    private Statistics statistics;
+
+    @Autowired
+    public BookServiceStatementCountIntegrationTests(BookService underTest,
+                                                     AuthorService authorService,
+                                                     BookRepository bookRepository,
+                                                     EntityManagerFactory entityManagerFactory){
+        this.underTest = underTest;
+        this.authorService = authorService;
+        this.bookRepository = bookRepository;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void testThatBookPageLoadsAuthorsWithoutExtraStatements(){
+        List<Long> authorIds = authorService.saveAll(IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> AuthorEntity.builder().name("Author " + i).age(30).build())
+                .toList());
+        for (int i = 0; i < PAGE_SIZE; i++){
+            bookRepository.upsert("978-" + i, "Title " + i, authorIds.get(i));
+        }
+        statistics.clear();
+
+        Page<BookEntity> page = underTest.findAll(PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allSatisfy(book -> assertThat(book.getAuthorEntity()).isNotNull());
+        // the page query (books joined with authors) plus the page's count query
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testThatLinkingBookToAuthorByIdIssuesOnlyTheUpsert(){
+        Long authorId = authorService.save(AuthorEntity.builder().name("Author").age(30).build()).getId();
+        statistics.clear();
+
+        boolean created = underTest.upsert("978-0", BookEntity.builder()
+                .title("Title")
+                .authorEntity(AuthorEntity.builder().id(authorId).build())
+                .build());
+
+        assertThat(created).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(underTest.findOne("978-0")).hasValueSatisfying(book ->
+                assertThat(book.getAuthorEntity().getName()).isEqualTo("Author"));
+    }
+
+    @Test
+    public void testThatPatchingBookWithAuthorIssuesOneStatement(){
+        underTest.createUpdateBook("978-0", BookEntity.builder()
+                .title("Title")
+                .authorEntity(AuthorEntity.builder().name("Author").age(30).build())
+                .build());
+        statistics.clear();
+
+        Optional<BookEntity> patched = underTest.partialUpdate("978-0", BookEntity.builder().title("UPDATED").build());
+
+        assertThat(patched).hasValueSatisfying(book -> {
+            assertThat(book.getTitle()).isEqualTo("UPDATED");
+            assertThat(book.getAuthorEntity().getName()).isEqualTo("Author");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,87 @@
+package com.springproject.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.springproject.TestDataUtil;
+import com.springproject.config.CacheConfig;
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.domain.entities.BookEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class CacheIntegrationTests {
+
+    private BookService bookService;
+
+    private AuthorService authorService;
+
+    private CacheManager cacheManager;
+
+    @Autowired
+    public CacheIntegrationTests(BookService bookService, AuthorService authorService, CacheManager cacheManager){
+        this.bookService = bookService;
+        this.authorService = authorService;
+        this.cacheManager = cacheManager;
+    }
+
+    private CacheStats stats(String cacheName){
+        Cache<Object, Object> nativeCache = ((CaffeineCache) cacheManager.getCache(cacheName)).getNativeCache();
+        return nativeCache.stats();
+    }
+
+    @Test
+    public void testThatRepeatedFindOneIsServedFromCache(){
+        BookEntity bookEntity = bookService.createUpdateBook("111-11-111-11", TestDataUtil.createTestBookA(null));
+
+        bookService.findOne(bookEntity.getIsbn());
+        bookService.findOne(bookEntity.getIsbn());
+
+        assertThat(stats(CacheConfig.BOOKS).missCount()).isEqualTo(1);
+        assertThat(stats(CacheConfig.BOOKS).hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatPartialUpdateInvalidatesCachedAuthor(){
+        AuthorEntity savedAuthor = authorService.save(TestDataUtil.createTestAuthorA());
+        authorService.findOne(savedAuthor.getId());
+
+        authorService.partialUpdate(savedAuthor.getId(), AuthorEntity.builder().name("UPDATED").build());
+
+        Optional<AuthorEntity> result = authorService.findOne(savedAuthor.getId());
+        assertThat(result).isPresent();
+        assertThat(result.get().getName()).isEqualTo("UPDATED");
+    }
+
+    @Test
+    public void testThatAuthorUpdateInvalidatesCachedBooks(){
+        AuthorEntity savedAuthor = authorService.save(TestDataUtil.createTestAuthorA());
+        BookEntity bookEntity = bookService.createUpdateBook("111-11-111-11", TestDataUtil.createTestBookA(savedAuthor));
+        bookService.findOne(bookEntity.getIsbn());
+
+        authorService.partialUpdate(savedAuthor.getId(), AuthorEntity.builder().name("UPDATED").build());
+
+        Optional<BookEntity> result = bookService.findOne(bookEntity.getIsbn());
+        assertThat(result).isPresent();
+        assertThat(result.get().getAuthorEntity().getName()).isEqualTo("UPDATED");
+    }
+
+    @Test
+    public void testThatDeleteInvalidatesCachedBook(){
+        BookEntity bookEntity = bookService.createUpdateBook("111-11-111-11", TestDataUtil.createTestBookA(null));
+        bookService.findOne(bookEntity.getIsbn());
+
+        bookService.delete(bookEntity.getIsbn());
+
+        assertThat(bookService.findOne(bookEntity.getIsbn())).isEmpty();
+    }
+}
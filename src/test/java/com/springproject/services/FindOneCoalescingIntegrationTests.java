@@ -0,0 +1,118 @@
+package com.springproject.services;
+
+import com.springproject.TestDataUtil;
+import com.springproject.config.CacheConfig;
+import com.springproject.domain.entities.AuthorEntity;
+import com.springproject.domain.entities.BookEntity;
+import com.springproject.metrics.StatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class FindOneCoalescingIntegrationTests {
+
+    private static final int CALLERS = 64;
+
+    private BookService bookService;
+
+    private AuthorService authorService;
+
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    @Autowired
+    public FindOneCoalescingIntegrationTests(BookService bookService,
+                                             AuthorService authorService,
+                                             CacheManager cacheManager,
+                                             EntityManagerFactory entityManagerFactory){
+        this.bookService = bookService;
+        this.authorService = authorService;
+        this.cacheManager = cacheManager;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void testThatConcurrentBookLookupsShareOneQuery() throws Exception {
+        BookEntity bookEntity = bookService.createUpdateBook("9-000-567-12", TestDataUtil.createTestBookA(TestDataUtil.createTestAuthorA()));
+        cacheManager.getCache(CacheConfig.BOOKS).clear();
+        statistics.clear();
+
+        List<Optional<BookEntity>> results = concurrently(() -> bookService.findOne(bookEntity.getIsbn()));
+
+        assertThat(results).allSatisfy(result -> assertThat(result).isPresent());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatConcurrentAuthorLookupsShareOneQuery() throws Exception {
+        AuthorEntity savedAuthor = authorService.save(TestDataUtil.createTestAuthorA());
+        cacheManager.getCache(CacheConfig.AUTHORS).clear();
+        statistics.clear();
+
+        List<Optional<AuthorEntity>> results = concurrently(() -> authorService.findOne(savedAuthor.getId()));
+
+        assertThat(results).allSatisfy(result -> assertThat(result).isPresent());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatCacheMissLoadsOnCallingThread(){
+        AuthorEntity savedAuthor = authorService.save(TestDataUtil.createTestAuthorA());
+        cacheManager.getCache(CacheConfig.AUTHORS).clear();
+        // the counter is thread-bound, like the request context the replica router reads
+        AtomicInteger statements = new AtomicInteger();
+        StatementCounter.bind(statements);
+        try {
+            assertThat(authorService.findOne(savedAuthor.getId())).isPresent();
+        } finally {
+            StatementCounter.unbind();
+        }
+
+        assertThat(statements.get()).isEqualTo(1);
+    }
+
+    private static <T> List<T> concurrently(Supplier<T> lookup) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(CALLERS);
+            List<CompletableFuture<T>> futures = IntStream.range(0, CALLERS)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        await(barrier);
+                        return lookup.get();
+                    }, executor))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+            return futures.stream().map(CompletableFuture::join).toList();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CyclicBarrier barrier){
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.springproject.services.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+public class ChangeFeedTests {
+
+    private static final int RING = 4;
+
+    private static final int SUBSCRIBER_BUFFER = 2;
+
+    private final ManualExecutor sender = new ManualExecutor();
+
+    private final ChangeFeed underTest = new ChangeFeed(RING, SUBSCRIBER_BUFFER, 60_000, sender);
+
+    @Test
+    public void testThatAppendDoesNotWaitForBlockedSubscriber() throws Exception {
+        ExecutorService threads = Executors.newCachedThreadPool();
+        ChangeFeed feed = new ChangeFeed(RING, SUBSCRIBER_BUFFER, 60_000, threads);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter blocked = new RecordingEmitter(release);
+        feed.subscribe(blocked, null);
+        try {
+            assertTimeout(Duration.ofSeconds(1), () -> {
+                for (int i = 0; i < 100; i++){
+                    feed.append(ChangeFeed.SAVED, Integer.toString(i));
+                }
+            });
+        } finally {
+            release.countDown();
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testThatLaggingSubscriberIsClosedWhenItsQueueOverflows(){
+        RecordingEmitter lagging = new RecordingEmitter();
+        underTest.subscribe(lagging, null);
+
+        for (int i = 0; i <= RING + SUBSCRIBER_BUFFER; i++){
+            underTest.append(ChangeFeed.SAVED, Integer.toString(i));
+        }
+        sender.runAll();
+        underTest.append(ChangeFeed.SAVED, "after-close");
+        sender.runAll();
+
+        assertThat(lagging.completed).isTrue();
+        assertThat(lagging.events).isEmpty();
+    }
+
+    @Test
+    public void testThatSubscriberKeepingUpReceivesEveryEvent(){
+        RecordingEmitter live = new RecordingEmitter();
+        underTest.subscribe(live, null);
+
+        for (int i = 1; i <= 3 * RING; i++){
+            underTest.append(ChangeFeed.SAVED, Integer.toString(i));
+            sender.runAll();
+        }
+
+        assertThat(live.ids()).hasSize(3 * RING).startsWith("1").endsWith(Integer.toString(3 * RING));
+        assertThat(live.completed).isFalse();
+    }
+
+    @Test
+    public void testThatReplayStartsAtOldestBufferedEvent(){
+        appendEvents(6);
+        RecordingEmitter resumed = new RecordingEmitter();
+
+        // events 3..6 are still in the ring, so a client that saw 2 misses nothing
+        underTest.subscribe(resumed, 2L);
+        sender.runAll();
+
+        assertThat(resumed.ids()).containsExactly("3", "4", "5", "6");
+    }
+
+    @Test
+    public void testThatLastEventIdOlderThanRingGetsReset(){
+        appendEvents(6);
+        RecordingEmitter resumed = new RecordingEmitter();
+
+        underTest.subscribe(resumed, 1L);
+        sender.runAll();
+
+        assertThat(resumed.names()).containsExactly(ChangeFeed.RESET);
+        assertThat(resumed.ids()).containsExactly("6");
+    }
+
+    @Test
+    public void testThatLastEventIdFromBeforeRestartGetsReset(){
+        appendEvents(2);
+        RecordingEmitter resumed = new RecordingEmitter();
+
+        underTest.subscribe(resumed, 40L);
+        sender.runAll();
+
+        assertThat(resumed.names()).containsExactly(ChangeFeed.RESET);
+    }
+
+    @Test
+    public void testThatUpToDateLastEventIdReplaysNothing(){
+        appendEvents(6);
+        RecordingEmitter resumed = new RecordingEmitter();
+
+        underTest.subscribe(resumed, 6L);
+        underTest.append(ChangeFeed.DELETED, "7");
+        sender.runAll();
+
+        assertThat(resumed.ids()).containsExactly("7");
+        assertThat(resumed.names()).containsExactly(ChangeFeed.DELETED);
+    }
+
+    private void appendEvents(int count){
+        for (int i = 1; i <= count; i++){
+            underTest.append(ChangeFeed.SAVED, Integer.toString(i));
+        }
+        sender.runAll();
+    }
+
+    private static final class ManualExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll(){
+            Runnable task;
+            while ((task = tasks.poll()) != null){
+                task.run();
+            }
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        private volatile boolean completed;
+
+        RecordingEmitter(){
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch release){
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // the text parts carry the id: and event: lines; the payload is a separate part
+            events.add(builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<String> ids(){
+            return field("id:");
+        }
+
+        List<String> names(){
+            return field("event:");
+        }
+
+        private List<String> field(String prefix){
+            return events.stream()
+                    .flatMap(event -> event.lines())
+                    .filter(line -> line.startsWith(prefix))
+                    .map(line -> line.substring(prefix.length()))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.springproject.services.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvertedIndexTests {
+
+    private final InvertedIndex underTest = new InvertedIndex();
+
+    @Test
+    public void testThatTokenizeLowercasesAndStripsDiacritics(){
+        assertThat(InvertedIndex.tokenize("Les Misérables, VOL-2"))
+                .containsExactly("les", "miserables", "vol", "2");
+    }
+
+    @Test
+    public void testThatSearchMatchesTitleAndAuthorPrefixes(){
+        underTest.putBook("1", "War and Peace", 1L, "Lev Tolstoy");
+        underTest.putBook("2", "The Lord of the Rings", 2L, "J. R. R. Tolkien");
+
+        assertThat(underTest.search("tol", 10)).containsExactlyInAnyOrder("1", "2");
+        assertThat(underTest.search("war tolst", 10)).containsExactly("1");
+        assertThat(underTest.search("rings tolstoy", 10)).isEmpty();
+    }
+
+    @Test
+    public void testThatTitleMatchesRankAboveAuthorMatches(){
+        underTest.putBook("1", "Tolstoy: A Biography", 1L, "Henri Troyat");
+        underTest.putBook("2", "Anna Karenina", 2L, "Lev Tolstoy");
+
+        assertThat(underTest.search("tolstoy", 10)).containsExactly("1", "2");
+    }
+
+    @Test
+    public void testThatExactMatchesRankAbovePrefixMatches(){
+        underTest.putBook("1", "Ring cycle", null, null);
+        underTest.putBook("2", "Ringworld", null, null);
+
+        assertThat(underTest.search("ring", 10)).containsExactly("1", "2");
+    }
+
+    @Test
+    public void testThatUpdatesAndRemovalsAreReflected(){
+        underTest.putBook("1", "War and Peace", 1L, "Lev Tolstoy");
+        underTest.putBook("1", "Anna Karenina", 1L, "Lev Tolstoy");
+        underTest.putBook("2", "Hadji Murat", 1L, "Lev Tolstoy");
+
+        assertThat(underTest.search("war", 10)).isEmpty();
+        assertThat(underTest.search("anna", 10)).containsExactly("1");
+
+        underTest.putAuthor(1L, "Leo Tolstoy");
+        assertThat(underTest.search("leo", 10)).containsExactlyInAnyOrder("1", "2");
+        assertThat(underTest.search("lev", 10)).isEmpty();
+
+        underTest.removeBook("1");
+        assertThat(underTest.search("leo", 10)).containsExactly("2");
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+}